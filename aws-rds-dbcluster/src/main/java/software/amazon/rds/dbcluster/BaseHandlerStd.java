@@ -6,10 +6,12 @@ import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.CloudwatchLogsExportConfiguration;
 import software.amazon.awssdk.services.rds.model.DBCluster;
 import software.amazon.awssdk.services.rds.model.DbClusterNotFoundException;
+import software.amazon.awssdk.services.rds.model.ModifyDbClusterRequest;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.exceptions.TerminalException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -31,8 +33,8 @@ import static software.amazon.rds.dbcluster.Translator.*;
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     private static final String MESSAGE_FORMAT_FAILED_TO_STABILIZE = "DBCluster %s failed to stabilize.";
     protected static final int DBCLUSTER_ID_MAX_LENGTH = 63;
-    protected static final int PAUSE_TIME_SECONDS = 60;
-    protected static final Constant BACKOFF_STRATEGY = Constant.of().timeout(Duration.ofMinutes(120L)).delay(Duration.ofSeconds(30L)).build();
+    protected static final Duration STABILIZATION_TIMEOUT = Duration.ofMinutes(120L);
+    protected static final Constant BACKOFF_STRATEGY = Constant.of().timeout(STABILIZATION_TIMEOUT).delay(Duration.ofSeconds(30L)).build();
     protected static final BiFunction<ResourceModel, ProxyClient<RdsClient>, ResourceModel> EMPTY_CALL = (model, proxyClient) -> model;
 
     @Override
@@ -41,7 +43,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                                                                              final CallbackContext callbackContext,
                                                                              final Logger logger) {
 
-        return handleRequest(proxy, request, callbackContext != null ? callbackContext : new CallbackContext(), proxy.newProxy(ClientBuilder::getClient), logger);
+        return handleRequest(proxy, request, callbackContext != null ? callbackContext : new CallbackContext(), proxy.newProxy(() -> ClientBuilder.getClient(request.getRegion())), logger);
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(AmazonWebServicesClientProxy proxy,
@@ -53,6 +55,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     // DBCluster Stabilization
     protected boolean isDBClusterStabilized(final ProxyClient<RdsClient> proxyClient,
                                             final ResourceModel model,
+                                            final CallbackContext callbackContext,
                                             final DBClusterStatus expectedStatus) {
         // describe status of a resource to make sure it's ready
         // describe db cluster
@@ -65,14 +68,35 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             if (!dbCluster.isPresent())
                 throw new CfnNotFoundException(ResourceModel.TYPE_NAME, model.getDBClusterIdentifier());
 
-            return expectedStatus.equalsString(dbCluster.get().status());
+            final String status = dbCluster.get().status();
+            callbackContext.setDbClusterStatus(status);
+            // A cluster on its way out might pass through any status, only the ones waiting for it to come up fail early.
+            if (expectedStatus == DBClusterStatus.Available) {
+                assertDBClusterNotInTerminalStatus(status, model);
+            }
+            return expectedStatus.equalsString(status);
         } catch (DbClusterNotFoundException e) {
             throw new CfnNotFoundException(ResourceModel.TYPE_NAME, e.getMessage());
+        } catch (DBClusterTerminalStateException e) {
+            throw e;
         } catch (Exception e) {
             throw new CfnNotStabilizedException(MESSAGE_FORMAT_FAILED_TO_STABILIZE, model.getDBClusterIdentifier(), e);
         }
     }
 
+    // Fails the stabilization right away instead of polling a cluster that will never become available.
+    protected void assertDBClusterNotInTerminalStatus(final String status, final ResourceModel model) {
+        DBClusterStatus.fromString(status)
+                .filter(DBClusterStatus::isTerminal)
+                .ifPresent(terminalStatus -> {
+                    throw new DBClusterTerminalStateException(model.getDBClusterIdentifier(), terminalStatus);
+                });
+    }
+
+    protected Delay getStabilizationDelay(final CallbackContext callbackContext) {
+        return new StatusAwareDelay(callbackContext::getDbClusterStatus, STABILIZATION_TIMEOUT, callbackContext.getPollingState());
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> waitForDBClusterAvailableStatus(
         final AmazonWebServicesClientProxy proxy,
         final ProxyClient<RdsClient> proxyClient,
@@ -83,25 +107,65 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             // Function.identity() takes ResourceModel as an input and returns (the same) ResourceModel
             // Function.identity() is roughly similar to `model -> model`
             .translateToServiceRequest(Function.identity())
+            .backoffDelay(getStabilizationDelay(progress.getCallbackContext()))
             // this skips the call and goes directly to stabilization
             .makeServiceCall(EMPTY_CALL)
             .stabilize((resourceModel, response, proxyInvocation, model, callbackContext) ->
-                isDBClusterStabilized(proxyInvocation, resourceModel, DBClusterStatus.Available)).progress();
+                isDBClusterStabilized(proxyInvocation, resourceModel, callbackContext, DBClusterStatus.Available))
+            .handleError((resourceModel, exception, proxyInvocation, model, callbackContext) ->
+                handleStabilizationError(model, callbackContext, exception))
+            .progress();
+    }
+
+    protected boolean isDBClusterModificationApplied(final ProxyClient<RdsClient> proxyClient,
+                                                     final ModifyDbClusterRequest modifyRequest,
+                                                     final ResourceModel model,
+                                                     final CallbackContext callbackContext) {
+        try {
+            final DBCluster dbCluster = proxyClient.injectCredentialsAndInvokeV2(
+                Translator.describeDbClustersRequest(model),
+                proxyClient.client()::describeDBClusters).dbClusters().stream().findFirst()
+                .orElseThrow(() -> new CfnNotFoundException(ResourceModel.TYPE_NAME, model.getDBClusterIdentifier()));
+
+            callbackContext.setDbClusterStatus(dbCluster.status());
+            assertDBClusterNotInTerminalStatus(dbCluster.status(), model);
+            return ModificationTracker.isApplied(modifyRequest, dbCluster);
+        } catch (DbClusterNotFoundException e) {
+            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, e.getMessage());
+        } catch (CfnNotFoundException | DBClusterTerminalStateException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CfnNotStabilizedException(MESSAGE_FORMAT_FAILED_TO_STABILIZE, model.getDBClusterIdentifier(), e);
+        }
+    }
+
+    protected ProgressEvent<ResourceModel, CallbackContext> handleStabilizationError(final ResourceModel model,
+                                                                                     final CallbackContext callbackContext,
+                                                                                     final Exception exception) throws Exception {
+        if (exception instanceof DBClusterTerminalStateException)
+            return ProgressEvent.failed(model, callbackContext, ((DBClusterTerminalStateException) exception).getErrorCode(), exception.getMessage());
+        throw exception;
     }
 
     // Modify or Post Create
     protected ProgressEvent<ResourceModel, CallbackContext> modifyDBCluster(final AmazonWebServicesClientProxy proxy,
                                                                             final ProxyClient<RdsClient> proxyClient,
                                                                             final ProgressEvent<ResourceModel, CallbackContext> progress,
+                                                                            final ResourceModel previousModel,
                                                                             final CloudwatchLogsExportConfiguration config) {
         if (progress.getCallbackContext().isModified()) return progress;
         return proxy.initiate("rds::modify-dbcluster", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-            .translateToServiceRequest((modelRequest) -> modifyDbClusterRequest(modelRequest, config))
-            .backoffDelay(BACKOFF_STRATEGY)
+            .translateToServiceRequest((modelRequest) -> modifyDbClusterRequest(previousModel, modelRequest, config))
+            .backoffDelay(getStabilizationDelay(progress.getCallbackContext()))
             .makeServiceCall((dbClusterModifyRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(dbClusterModifyRequest, proxyInvocation.client()::modifyDBCluster))
+            // instead of a fixed pause, wait until the change set shows up on the cluster
+            .stabilize((modifyDbClusterRequest, modifyDbClusterResponse, proxyInvocation, resourceModel, callbackContext) ->
+                isDBClusterModificationApplied(proxyInvocation, modifyDbClusterRequest, resourceModel, callbackContext))
+            .handleError((modifyDbClusterRequest, exception, proxyInvocation, resourceModel, callbackContext) ->
+                handleStabilizationError(resourceModel, callbackContext, exception))
             .done((modifyDbClusterRequest, modifyDbClusterResponse, proxyInvocation, resourceModel, callbackContext) ->  {
                 callbackContext.setModified(true);
-                return ProgressEvent.defaultInProgressHandler(callbackContext, PAUSE_TIME_SECONDS, resourceModel);
+                return ProgressEvent.progress(resourceModel, callbackContext);
             });
     }
 
@@ -149,10 +213,11 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 .translateToServiceRequest(Translator::describeDbClustersRequest)
                 .makeServiceCall((describeDbClusterRequest, rdsClientProxyClient) -> rdsClientProxyClient.injectCredentialsAndInvokeV2(describeDbClusterRequest, rdsClientProxyClient.client()::describeDBClusters))
                 .done((describeDbClusterRequest, describeDbClusterResponse, rdsClientProxyClient, resourceModel, context) -> {
-                    final String arn = describeDbClusterResponse.dbClusters().stream().findFirst().get().dbClusterArn();
+                    final DBCluster dbCluster = describeDbClusterResponse.dbClusters().stream().findFirst().get();
+                    final String arn = dbCluster.dbClusterArn();
 
                     final Set<Tag> currentTags = new HashSet<>(Optional.ofNullable(resourceModel.getTags()).orElse(Collections.emptySet()));
-                    final Set<Tag> existingTags = Translator.translateTagsFromSdk(rdsClientProxyClient.injectCredentialsAndInvokeV2(listTagsForResourceRequest(arn), rdsClientProxyClient.client()::listTagsForResource).tagList());
+                    final Set<Tag> existingTags = listTags(rdsClientProxyClient, dbCluster);
                     final Set<Tag> tagsToRemove = Sets.difference(existingTags, currentTags);
                     final Set<Tag> tagsToAdd = Sets.difference(currentTags, existingTags);
                     rdsClientProxyClient.injectCredentialsAndInvokeV2(removeTagsFromResourceRequest(arn, tagsToRemove), rdsClientProxyClient.client()::removeTagsFromResource);
@@ -160,4 +225,13 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                     return ProgressEvent.progress(resourceModel, context);
                 });
     }
+
+    // DescribeDBClusters returns the cluster tags in the TagList, an extra ListTagsForResource call
+    // is only made when the payload comes without one.
+    protected Set<Tag> listTags(final ProxyClient<RdsClient> proxyClient, final DBCluster dbCluster) {
+        if (dbCluster.hasTagList()) {
+            return Translator.translateTagsFromSdk(dbCluster.tagList());
+        }
+        return Translator.translateTagsFromSdk(proxyClient.injectCredentialsAndInvokeV2(listTagsForResourceRequest(dbCluster.dbClusterArn()), proxyClient.client()::listTagsForResource).tagList());
+    }
 }
@@ -1,5 +1,6 @@
 package software.amazon.rds.dbcluster;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
 @lombok.Getter
@@ -8,4 +9,11 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
     private boolean modified;
+    private PollingState pollingState = new PollingState();
+
+    // The latest observed DBCluster status, used to pace the polling. It lives for a single
+    // handler invocation only and is never serialized.
+    @JsonIgnore
+    @lombok.ToString.Exclude
+    private transient String dbClusterStatus;
 }
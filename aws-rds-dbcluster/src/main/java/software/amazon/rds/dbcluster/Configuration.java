@@ -2,6 +2,15 @@ package software.amazon.rds.dbcluster;
 
 class Configuration extends BaseConfiguration {
 
+    // HandlerWrapper creates the configuration during the Lambda init phase, ahead of the first invocation.
+    static {
+        try {
+            Primer.prime();
+        } catch (final Exception e) {
+            // Priming is an optimization only: a failure just leaves the work to the first invocation.
+        }
+    }
+
     public Configuration() {
         super("aws-rds-dbcluster.json");
     }
@@ -62,12 +62,11 @@ public class CreateHandler extends BaseHandlerStd {
             })
             .then(progress -> waitForDBClusterAvailableStatus(proxy, proxyClient, progress))
             .then(progress -> {
-                // check if db cluster was restored and needs post-restore update
+                // check if db cluster was restored and needs post-restore update, the modification stabilizes on its own
                 if (!StringUtils.isNullOrEmpty(progress.getResourceModel().getSnapshotIdentifier()))
-                    return modifyDBCluster(proxy, proxyClient, progress, CloudwatchLogsExportConfiguration.builder().build());
+                    return modifyDBCluster(proxy, proxyClient, progress, null, CloudwatchLogsExportConfiguration.builder().build());
                 return progress;
             })
-            .then(progress -> waitForDBClusterAvailableStatus(proxy, proxyClient, progress))
             .then(progress -> addAssociatedRoles(proxy, proxyClient, progress, progress.getResourceModel().getAssociatedRoles()))
             .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
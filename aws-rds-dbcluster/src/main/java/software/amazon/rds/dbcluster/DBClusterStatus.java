@@ -1,15 +1,108 @@
 package software.amazon.rds.dbcluster;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+
+import software.amazon.awssdk.utils.StringUtils;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+
 public enum DBClusterStatus {
-    Available("available"),
+    Available("available", Pace.Quick),
+    BackingUp("backing-up"),
+    Backtracking("backtracking"),
+    CloningFailed("cloning-failed", Kind.Terminal, HandlerErrorCode.GeneralServiceException),
     Creating("creating"),
     Deleted("deleted"),
-    Failed("failed");
+    Deleting("deleting"),
+    Failed("failed", Kind.Terminal, HandlerErrorCode.GeneralServiceException),
+    FailingOver("failing-over", Pace.Quick),
+    InaccessibleEncryptionCredentials("inaccessible-encryption-credentials", Kind.Terminal, HandlerErrorCode.AccessDenied),
+    InaccessibleEncryptionCredentialsRecoverable("inaccessible-encryption-credentials-recoverable", Kind.Recoverable, null),
+    Maintenance("maintenance"),
+    Migrating("migrating", Pace.Slow),
+    MigrationFailed("migration-failed", Kind.Terminal, HandlerErrorCode.GeneralServiceException),
+    Modifying("modifying"),
+    PreparingDataMigration("preparing-data-migration", Pace.Slow),
+    Promoting("promoting", Pace.Quick),
+    Rebooting("rebooting", Pace.Quick),
+    Renaming("renaming", Pace.Quick),
+    ResettingMasterCredentials("resetting-master-credentials", Pace.Quick),
+    Starting("starting"),
+    Stopped("stopped"),
+    Stopping("stopping"),
+    StorageOptimization("storage-optimization", Pace.Slow),
+    UpdateIamDbAuth("update-iam-db-auth", Pace.Quick),
+    Upgrading("upgrading", Pace.Slow);
+
+    // Terminal statuses require an intervention: the cluster will never become available on its own.
+    // Recoverable statuses might resolve without an intervention, so the stabilization keeps polling.
+    public enum Kind {
+        Transitional,
+        Recoverable,
+        Terminal
+    }
+
+    // How often a cluster in a given status is polled: short transitions are checked often,
+    // the ones that take hours are not worth a describe call every half a minute.
+    public enum Pace {
+        Quick(Duration.ofSeconds(10)),
+        Regular(Duration.ofSeconds(30)),
+        Slow(Duration.ofSeconds(60));
+
+        private final Duration delay;
+
+        Pace(final Duration delay) {
+            this.delay = delay;
+        }
+
+        public Duration getDelay() {
+            return delay;
+        }
+    }
 
     private String value;
+    private Kind kind;
+    private HandlerErrorCode errorCode;
+    private Pace pace;
+
+    DBClusterStatus(final String value) {
+        this(value, Pace.Regular);
+    }
+
+    DBClusterStatus(final String value, final Pace pace) {
+        this.value = value;
+        this.kind = Kind.Transitional;
+        this.pace = pace;
+    }
 
-    DBClusterStatus(String value) {
+    DBClusterStatus(final String value, final Kind kind, final HandlerErrorCode errorCode) {
         this.value = value;
+        this.kind = kind;
+        this.errorCode = errorCode;
+        this.pace = Pace.Regular;
+    }
+
+    public static Optional<DBClusterStatus> fromString(final String status) {
+        return Arrays.stream(values())
+                .filter(s -> s.equalsString(status))
+                .findFirst();
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public boolean isTerminal() {
+        return kind == Kind.Terminal;
+    }
+
+    public HandlerErrorCode getErrorCode() {
+        return errorCode;
+    }
+
+    public Pace getPace() {
+        return pace;
     }
 
     @Override
@@ -18,6 +111,6 @@ public enum DBClusterStatus {
     }
 
     public boolean equalsString(final String status) {
-        return this.value.equals(status);
+        return StringUtils.equals(value, status);
     }
 }
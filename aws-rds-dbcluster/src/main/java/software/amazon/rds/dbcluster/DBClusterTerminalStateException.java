@@ -0,0 +1,16 @@
+package software.amazon.rds.dbcluster;
+
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+
+// Thrown by the stabilizers once the cluster lands in a status it can not leave on its own.
+// The error code is taken from the status catalog in DBClusterStatus.
+public class DBClusterTerminalStateException extends BaseHandlerException {
+
+    private static final long serialVersionUID = 3417254780416349816L;
+
+    private static final String MESSAGE_FORMAT = "DBCluster %s is in a terminal state: %s.";
+
+    public DBClusterTerminalStateException(final String dbClusterIdentifier, final DBClusterStatus status) {
+        super(String.format(MESSAGE_FORMAT, dbClusterIdentifier, status), null, status.getErrorCode());
+    }
+}
@@ -17,10 +17,10 @@ public class DeleteHandler extends BaseHandlerStd {
         return proxy.initiate("rds::delete-dbcluster", proxyClient, request.getDesiredResourceState(), callbackContext)
                 // request to delete db cluster
                 .translateToServiceRequest(Translator::deleteDbClusterRequest)
-                .backoffDelay(BACKOFF_STRATEGY)
+                .backoffDelay(getStabilizationDelay(callbackContext))
                 .makeServiceCall((deleteDbClusterRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(deleteDbClusterRequest, proxyInvocation.client()::deleteDBCluster))
                 // wait until deleted
-                .stabilize((deleteDbClusterRequest, deleteDbClusterResponse, proxyInvocation, model, context) -> isDBClusterStabilized(proxyInvocation, model, DBClusterStatus.Deleted))
+                .stabilize((deleteDbClusterRequest, deleteDbClusterResponse, proxyInvocation, model, context) -> isDBClusterStabilized(proxyInvocation, model, context, DBClusterStatus.Deleted))
                 .success();
     }
 }
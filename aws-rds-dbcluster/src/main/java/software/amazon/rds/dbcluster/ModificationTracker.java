@@ -0,0 +1,82 @@
+package software.amazon.rds.dbcluster;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.services.rds.model.CloudwatchLogsExportConfiguration;
+import software.amazon.awssdk.services.rds.model.DBCluster;
+import software.amazon.awssdk.services.rds.model.ModifyDbClusterRequest;
+import software.amazon.awssdk.services.rds.model.VpcSecurityGroupMembership;
+import software.amazon.awssdk.utils.StringUtils;
+
+// Tells whether a submitted ModifyDBCluster change set has been applied by comparing it with the live cluster.
+// Right after the call the cluster might still report "available" with the old values, so the status alone
+// is not enough to tell the modification is over.
+public final class ModificationTracker {
+
+    private static final String VPC_SECURITY_GROUP_STATUS_ACTIVE = "active";
+
+    private ModificationTracker() {
+    }
+
+    // The handler always sends ModifyDBCluster with ApplyImmediately=true, so nothing is left for the maintenance
+    // window. MasterUserPassword cannot be read back, and the windows and the scaling configuration leave
+    // no trace worth waiting for, so none of them are compared.
+    public static boolean isApplied(final ModifyDbClusterRequest modifyRequest, final DBCluster dbCluster) {
+        return DBClusterStatus.Available.equalsString(dbCluster.status()) &&
+                isLive(modifyRequest.backupRetentionPeriod(), dbCluster.backupRetentionPeriod()) &&
+                isLive(modifyRequest.backtrackWindow(), dbCluster.backtrackWindow()) &&
+                isLive(modifyRequest.deletionProtection(), dbCluster.deletionProtection()) &&
+                isLive(modifyRequest.enableHttpEndpoint(), dbCluster.httpEndpointEnabled()) &&
+                isLive(modifyRequest.enableIAMDatabaseAuthentication(), dbCluster.iamDatabaseAuthenticationEnabled()) &&
+                isLive(modifyRequest.port(), dbCluster.port()) &&
+                isLive(emptyToNull(modifyRequest.dbClusterParameterGroupName()), dbCluster.dbClusterParameterGroup()) &&
+                isEngineVersionApplied(modifyRequest.engineVersion(), dbCluster.engineVersion()) &&
+                areLogExportsApplied(modifyRequest.cloudwatchLogsExportConfiguration(), dbCluster.enabledCloudwatchLogsExports()) &&
+                areVpcSecurityGroupsApplied(modifyRequest, dbCluster);
+    }
+
+    private static <T> boolean isLive(final T requested, final T live) {
+        return requested == null || requested.equals(live);
+    }
+
+    private static String emptyToNull(final String value) {
+        return StringUtils.isBlank(value) ? null : value;
+    }
+
+    // A major version (e.g. "5.7") resolves to a specific version of it (e.g. "5.7.mysql_aurora.2.07.2").
+    private static boolean isEngineVersionApplied(final String requested, final String live) {
+        return StringUtils.isBlank(requested) || requested.equals(live) || (live != null && live.startsWith(requested + "."));
+    }
+
+    private static boolean areLogExportsApplied(final CloudwatchLogsExportConfiguration config, final List<String> live) {
+        if (config == null) {
+            return true;
+        }
+        final Collection<String> enabled = emptyIfNull(live);
+        return enabled.containsAll(emptyIfNull(config.enableLogTypes())) &&
+                Collections.disjoint(enabled, emptyIfNull(config.disableLogTypes()));
+    }
+
+    private static boolean areVpcSecurityGroupsApplied(final ModifyDbClusterRequest modifyRequest, final DBCluster dbCluster) {
+        if (!modifyRequest.hasVpcSecurityGroupIds()) {
+            return true;
+        }
+        final List<VpcSecurityGroupMembership> memberships = Optional.ofNullable(dbCluster.vpcSecurityGroups())
+                .orElse(Collections.emptyList());
+        return memberships.stream()
+                .map(VpcSecurityGroupMembership::vpcSecurityGroupId)
+                .collect(Collectors.toSet())
+                .containsAll(modifyRequest.vpcSecurityGroupIds()) &&
+                memberships.stream()
+                        .map(VpcSecurityGroupMembership::status)
+                        .allMatch(VPC_SECURITY_GROUP_STATUS_ACTIVE::equals);
+    }
+
+    private static <T> Collection<T> emptyIfNull(final Collection<T> collection) {
+        return collection == null ? Collections.emptyList() : collection;
+    }
+}
@@ -3,7 +3,6 @@ package software.amazon.rds.dbcluster;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.DBCluster;
 import software.amazon.awssdk.services.rds.model.DBClusterRole;
-import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.rds.model.VpcSecurityGroupMembership;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
@@ -14,8 +13,6 @@ import software.amazon.cloudformation.proxy.Logger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import static software.amazon.rds.dbcluster.Translator.listTagsForResourceRequest;
-
 public class ReadHandler extends BaseHandlerStd {
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(final AmazonWebServicesClientProxy proxy,
@@ -30,7 +27,6 @@ public class ReadHandler extends BaseHandlerStd {
 
                     final Function<DBClusterRole, software.amazon.rds.dbcluster.DBClusterRole> roleTransform = (DBClusterRole dbClusterRole) -> new software.amazon.rds.dbcluster.DBClusterRole(dbClusterRole.roleArn(), dbClusterRole.featureName());
                     final DBCluster targetDBCluster = describeDbClustersResponse.dbClusters().stream().findFirst().get();
-                    final ListTagsForResourceResponse listTagsForResourceResponse = proxyInvocation.injectCredentialsAndInvokeV2(listTagsForResourceRequest(targetDBCluster.dbClusterArn()), proxyInvocation.client()::listTagsForResource);
 
                     return ProgressEvent.defaultSuccessHandler(ResourceModel.builder()
                             // read only properties GetAtt
@@ -63,7 +59,7 @@ public class ReadHandler extends BaseHandlerStd {
                             .replicationSourceIdentifier(targetDBCluster.replicationSourceIdentifier())
                             .scalingConfiguration(Translator.translateScalingConfigurationFromSdk(targetDBCluster.scalingConfigurationInfo()))
                             .storageEncrypted(targetDBCluster.storageEncrypted())
-                            .tags(Translator.translateTagsFromSdk(listTagsForResourceResponse.tagList()))
+                            .tags(listTags(proxyInvocation, targetDBCluster))
                             .vpcSecurityGroupIds(targetDBCluster.vpcSecurityGroups().stream().map(VpcSecurityGroupMembership::vpcSecurityGroupId).collect(Collectors.toList()))
                             .build());
                 });
@@ -0,0 +1,46 @@
+package software.amazon.rds.dbcluster;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import software.amazon.cloudformation.proxy.Delay;
+
+// Picks the next polling delay from the latest observed DB cluster status (see DBClusterStatus.Pace).
+// An unknown status, or no status observed yet, is polled at the regular pace.
+// The proxy builds a new delay on every handler invocation, so the elapsed time is kept in the given state.
+public class StatusAwareDelay implements Delay {
+
+    private final Supplier<String> statusSupplier;
+    private final Duration timeout;
+    private final PollingState state;
+
+    public StatusAwareDelay(final Supplier<String> statusSupplier, final Duration timeout, final PollingState state) {
+        this.statusSupplier = statusSupplier;
+        this.timeout = timeout;
+        this.state = state;
+    }
+
+    @Override
+    public Duration nextDelay(final int attempt) {
+        if (attempt <= state.getAttempt()) {
+            state.reset();
+        }
+        state.setAttempt(attempt);
+
+        final Duration elapsed = Duration.ofMillis(state.getElapsedMillis());
+        if (elapsed.compareTo(timeout) >= 0) {
+            // Duration.ZERO tells the proxy the stabilization has timed out.
+            return Duration.ZERO;
+        }
+        Duration delay = DBClusterStatus.fromString(statusSupplier.get())
+                .map(DBClusterStatus::getPace)
+                .orElse(DBClusterStatus.Pace.Regular)
+                .getDelay();
+        final Duration remaining = timeout.minus(elapsed);
+        if (delay.compareTo(remaining) > 0) {
+            delay = remaining;
+        }
+        state.setElapsedMillis(elapsed.plus(delay).toMillis());
+        return delay;
+    }
+}
@@ -18,12 +18,15 @@ import software.amazon.awssdk.services.rds.model.ScalingConfiguration;
 import software.amazon.awssdk.services.rds.model.Tag;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class Translator {
@@ -117,27 +120,70 @@ public class Translator {
                 .build();
     }
 
-    static ModifyDbClusterRequest modifyDbClusterRequest(final ResourceModel model,
+    // The cluster attributes ModifyDBCluster can change in place.
+    private static final List<Function<ResourceModel, Object>> MODIFIABLE_ATTRIBUTES = Arrays.asList(
+            ResourceModel::getBacktrackWindow,
+            ResourceModel::getBackupRetentionPeriod,
+            ResourceModel::getDBClusterParameterGroupName,
+            ResourceModel::getDeletionProtection,
+            ResourceModel::getEnableIAMDatabaseAuthentication,
+            ResourceModel::getEnableHttpEndpoint,
+            ResourceModel::getEngineVersion,
+            ResourceModel::getMasterUserPassword,
+            ResourceModel::getPort,
+            ResourceModel::getPreferredBackupWindow,
+            ResourceModel::getPreferredMaintenanceWindow,
+            ResourceModel::getScalingConfiguration,
+            ResourceModel::getVpcSecurityGroupIds
+    );
+
+    // Carries only the attributes that differ from the previous model. Without a previous model
+    // (e.g. right after a restore) every specified attribute is carried.
+    static ModifyDbClusterRequest modifyDbClusterRequest(final ResourceModel previousModel,
+                                                         final ResourceModel desiredModel,
                                                          final CloudwatchLogsExportConfiguration config) {
         return ModifyDbClusterRequest.builder()
-                .backtrackWindow(castToLong(model.getBacktrackWindow()))
-                .cloudwatchLogsExportConfiguration(config)
-                .dbClusterIdentifier(model.getDBClusterIdentifier())
-                .backupRetentionPeriod(model.getBackupRetentionPeriod())
-                .dbClusterParameterGroupName(model.getDBClusterParameterGroupName())
-                .deletionProtection(model.getDeletionProtection())
-                .enableIAMDatabaseAuthentication(model.getEnableIAMDatabaseAuthentication())
-                .enableHttpEndpoint(model.getEnableHttpEndpoint())
-                .masterUserPassword(model.getMasterUserPassword())
-                .port(model.getPort())
-                .preferredBackupWindow(model.getPreferredBackupWindow())
-                .preferredMaintenanceWindow(model.getPreferredMaintenanceWindow())
-                .scalingConfiguration(translateScalingConfigurationToSdk(model.getScalingConfiguration()))
-                .vpcSecurityGroupIds(model.getVpcSecurityGroupIds())
-                .engineVersion(model.getEngineVersion())
+                .applyImmediately(true)
+                .backtrackWindow(castToLong(diff(previousModel, desiredModel, ResourceModel::getBacktrackWindow)))
+                .cloudwatchLogsExportConfiguration(isLogExportsModified(config) ? config : null)
+                .dbClusterIdentifier(desiredModel.getDBClusterIdentifier())
+                .backupRetentionPeriod(diff(previousModel, desiredModel, ResourceModel::getBackupRetentionPeriod))
+                .dbClusterParameterGroupName(diff(previousModel, desiredModel, ResourceModel::getDBClusterParameterGroupName))
+                .deletionProtection(diff(previousModel, desiredModel, ResourceModel::getDeletionProtection))
+                .enableIAMDatabaseAuthentication(diff(previousModel, desiredModel, ResourceModel::getEnableIAMDatabaseAuthentication))
+                .enableHttpEndpoint(diff(previousModel, desiredModel, ResourceModel::getEnableHttpEndpoint))
+                .masterUserPassword(diff(previousModel, desiredModel, ResourceModel::getMasterUserPassword))
+                .port(diff(previousModel, desiredModel, ResourceModel::getPort))
+                .preferredBackupWindow(diff(previousModel, desiredModel, ResourceModel::getPreferredBackupWindow))
+                .preferredMaintenanceWindow(diff(previousModel, desiredModel, ResourceModel::getPreferredMaintenanceWindow))
+                .scalingConfiguration(translateScalingConfigurationToSdk(diff(previousModel, desiredModel, ResourceModel::getScalingConfiguration)))
+                .vpcSecurityGroupIds(diff(previousModel, desiredModel, ResourceModel::getVpcSecurityGroupIds))
+                .engineVersion(diff(previousModel, desiredModel, ResourceModel::getEngineVersion))
                 .build();
     }
 
+    // Tells whether modifyDbClusterRequest would carry anything but the cluster identifier.
+    static boolean isDbClusterModified(final ResourceModel previousModel,
+                                       final ResourceModel desiredModel,
+                                       final CloudwatchLogsExportConfiguration config) {
+        return isLogExportsModified(config) ||
+                MODIFIABLE_ATTRIBUTES.stream().anyMatch(getter -> diff(previousModel, desiredModel, getter) != null);
+    }
+
+    private static <T> T diff(final ResourceModel previousModel,
+                              final ResourceModel desiredModel,
+                              final Function<ResourceModel, T> getter) {
+        final T desired = getter.apply(desiredModel);
+        if (previousModel != null && Objects.equals(getter.apply(previousModel), desired)) {
+            return null;
+        }
+        return desired;
+    }
+
+    private static boolean isLogExportsModified(final CloudwatchLogsExportConfiguration config) {
+        return config != null && (!config.enableLogTypes().isEmpty() || !config.disableLogTypes().isEmpty());
+    }
+
     static CloudwatchLogsExportConfiguration cloudwatchLogsExportConfiguration(final ResourceHandlerRequest<ResourceModel> request) {
         CloudwatchLogsExportConfiguration.Builder config = CloudwatchLogsExportConfiguration.builder();
 
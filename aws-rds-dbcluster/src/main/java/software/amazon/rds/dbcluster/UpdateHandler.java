@@ -4,6 +4,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.CloudwatchLogsExportConfiguration;
 import software.amazon.awssdk.services.rds.model.DbClusterRoleNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
@@ -13,6 +14,7 @@ import software.amazon.cloudformation.proxy.Logger;
 
 import static software.amazon.rds.dbcluster.ModelAdapter.setDefaults;
 import static software.amazon.rds.dbcluster.Translator.cloudwatchLogsExportConfiguration;
+import static software.amazon.rds.dbcluster.Translator.isDbClusterModified;
 import static software.amazon.rds.dbcluster.Translator.removeRoleFromDbClusterRequest;
 
 public class UpdateHandler extends BaseHandlerStd {
@@ -24,10 +26,17 @@ public class UpdateHandler extends BaseHandlerStd {
         final ProxyClient<RdsClient> proxyClient,
         final Logger logger) {
 
+      final ResourceModel previousModel = setDefaults(request.getPreviousResourceState());
+      final CloudwatchLogsExportConfiguration config = cloudwatchLogsExportConfiguration(request);
+
       return ProgressEvent.progress(setDefaults(request.getDesiredResourceState()), callbackContext)
-          .then(progress -> modifyDBCluster(proxy, proxyClient, progress, cloudwatchLogsExportConfiguration(request)))
-          .then(progress -> waitForDBClusterAvailableStatus(proxy, proxyClient, progress))
-          .then(progress -> removeAssociatedRoles(proxy, proxyClient, progress, setDefaults(request.getPreviousResourceState()).getAssociatedRoles()))
+          .then(progress -> {
+            // tag and role only updates leave the cluster alone, a modification stabilizes on its own
+            if (!isDbClusterModified(previousModel, progress.getResourceModel(), config))
+              return progress;
+            return modifyDBCluster(proxy, proxyClient, progress, previousModel, config);
+          })
+          .then(progress -> removeAssociatedRoles(proxy, proxyClient, progress, previousModel.getAssociatedRoles()))
           .then(progress -> addAssociatedRoles(proxy, proxyClient, progress, progress.getResourceModel().getAssociatedRoles()))
           .then(progress -> tagResource(proxy, proxyClient, progress))
           .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
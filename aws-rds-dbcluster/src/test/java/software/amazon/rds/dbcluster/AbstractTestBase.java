@@ -45,6 +45,7 @@ public class AbstractTestBase {
     protected static final ResourceModel RESOURCE_MODEL_ON_RESTORE_IN_TIME;
 
     protected static final DBCluster DBCLUSTER_ACTIVE;
+    protected static final DBCluster DBCLUSTER_ACTIVE_MODIFIED;
     protected static final DBCluster DBCLUSTER_ACTIVE_NO_ROLE;
     protected static final DBCluster DBCLUSTER_DELETED;
     protected static final DBCluster DBCLUSTER_INPROGRESS;
@@ -131,6 +132,12 @@ public class AbstractTestBase {
                 )
                 .build();
 
+        DBCLUSTER_ACTIVE_MODIFIED = DBCLUSTER_ACTIVE.toBuilder()
+                .backtrackWindow(RESOURCE_MODEL.getBacktrackWindow().longValue())
+                .backupRetentionPeriod(RESOURCE_MODEL.getBackupRetentionPeriod())
+                .dbClusterParameterGroup(RESOURCE_MODEL.getDBClusterParameterGroupName())
+                .build();
+
         DBCLUSTER_ACTIVE_NO_ROLE = DBCluster.builder()
                 .dbClusterIdentifier(RESOURCE_MODEL.getDBClusterIdentifier())
                 .engine(RESOURCE_MODEL.getEngine())
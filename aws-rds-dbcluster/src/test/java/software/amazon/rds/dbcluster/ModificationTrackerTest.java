@@ -0,0 +1,154 @@
+package software.amazon.rds.dbcluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.rds.model.CloudwatchLogsExportConfiguration;
+import software.amazon.awssdk.services.rds.model.DBCluster;
+import software.amazon.awssdk.services.rds.model.ModifyDbClusterRequest;
+import software.amazon.awssdk.services.rds.model.VpcSecurityGroupMembership;
+
+public class ModificationTrackerTest {
+
+    private static final String DBCLUSTER_IDENTIFIER = "db-cluster-identifier";
+
+    private static final DBCluster DBCLUSTER_ACTIVE = DBCluster.builder()
+            .dbClusterIdentifier(DBCLUSTER_IDENTIFIER)
+            .status(DBClusterStatus.Available.toString())
+            .backupRetentionPeriod(1)
+            .backtrackWindow(0L)
+            .deletionProtection(false)
+            .httpEndpointEnabled(false)
+            .iamDatabaseAuthenticationEnabled(false)
+            .port(3306)
+            .dbClusterParameterGroup("default.aurora-mysql5.7")
+            .engineVersion("5.7.mysql_aurora.2.07.2")
+            .enabledCloudwatchLogsExports("error")
+            .vpcSecurityGroups(VpcSecurityGroupMembership.builder().vpcSecurityGroupId("sg-1").status("active").build())
+            .build();
+
+    private static ModifyDbClusterRequest.Builder modifyRequest() {
+        return ModifyDbClusterRequest.builder()
+                .dbClusterIdentifier(DBCLUSTER_IDENTIFIER)
+                .applyImmediately(true);
+    }
+
+    @Test
+    public void isApplied_NothingToCompare() {
+        assertThat(ModificationTracker.isApplied(modifyRequest().build(), DBCLUSTER_ACTIVE)).isTrue();
+    }
+
+    @Test
+    public void isApplied_NotAvailable() {
+        final DBCluster dbCluster = DBCLUSTER_ACTIVE.toBuilder().status(DBClusterStatus.Modifying.toString()).build();
+        assertThat(ModificationTracker.isApplied(modifyRequest().build(), dbCluster)).isFalse();
+    }
+
+    @Test
+    public void isApplied_BackupRetentionPeriod() {
+        final ModifyDbClusterRequest request = modifyRequest().backupRetentionPeriod(7).build();
+        assertThat(ModificationTracker.isApplied(request, DBCLUSTER_ACTIVE)).isFalse();
+        assertThat(ModificationTracker.isApplied(request, DBCLUSTER_ACTIVE.toBuilder().backupRetentionPeriod(7).build())).isTrue();
+    }
+
+    @Test
+    public void isApplied_BacktrackWindow() {
+        final ModifyDbClusterRequest request = modifyRequest().backtrackWindow(3600L).build();
+        assertThat(ModificationTracker.isApplied(request, DBCLUSTER_ACTIVE)).isFalse();
+        assertThat(ModificationTracker.isApplied(request, DBCLUSTER_ACTIVE.toBuilder().backtrackWindow(3600L).build())).isTrue();
+    }
+
+    @Test
+    public void isApplied_DeletionProtection() {
+        final ModifyDbClusterRequest request = modifyRequest().deletionProtection(true).build();
+        assertThat(ModificationTracker.isApplied(request, DBCLUSTER_ACTIVE)).isFalse();
+        assertThat(ModificationTracker.isApplied(request, DBCLUSTER_ACTIVE.toBuilder().deletionProtection(true).build())).isTrue();
+    }
+
+    @Test
+    public void isApplied_HttpEndpoint() {
+        final ModifyDbClusterRequest request = modifyRequest().enableHttpEndpoint(true).build();
+        assertThat(ModificationTracker.isApplied(request, DBCLUSTER_ACTIVE)).isFalse();
+        assertThat(ModificationTracker.isApplied(request, DBCLUSTER_ACTIVE.toBuilder().httpEndpointEnabled(true).build())).isTrue();
+    }
+
+    @Test
+    public void isApplied_IamDatabaseAuthentication() {
+        final ModifyDbClusterRequest request = modifyRequest().enableIAMDatabaseAuthentication(true).build();
+        assertThat(ModificationTracker.isApplied(request, DBCLUSTER_ACTIVE)).isFalse();
+        assertThat(ModificationTracker.isApplied(request, DBCLUSTER_ACTIVE.toBuilder().iamDatabaseAuthenticationEnabled(true).build())).isTrue();
+    }
+
+    @Test
+    public void isApplied_Port() {
+        final ModifyDbClusterRequest request = modifyRequest().port(3307).build();
+        assertThat(ModificationTracker.isApplied(request, DBCLUSTER_ACTIVE)).isFalse();
+        assertThat(ModificationTracker.isApplied(request, DBCLUSTER_ACTIVE.toBuilder().port(3307).build())).isTrue();
+    }
+
+    @Test
+    public void isApplied_DbClusterParameterGroup() {
+        final ModifyDbClusterRequest request = modifyRequest().dbClusterParameterGroupName("custom").build();
+        assertThat(ModificationTracker.isApplied(request, DBCLUSTER_ACTIVE)).isFalse();
+        assertThat(ModificationTracker.isApplied(request, DBCLUSTER_ACTIVE.toBuilder().dbClusterParameterGroup("custom").build())).isTrue();
+    }
+
+    @Test
+    public void isApplied_BlankDbClusterParameterGroupIsIgnored() {
+        final ModifyDbClusterRequest request = modifyRequest().dbClusterParameterGroupName("").build();
+        assertThat(ModificationTracker.isApplied(request, DBCLUSTER_ACTIVE)).isTrue();
+    }
+
+    @Test
+    public void isApplied_EngineVersion() {
+        final ModifyDbClusterRequest request = modifyRequest().engineVersion("5.7.mysql_aurora.2.10.2").build();
+        assertThat(ModificationTracker.isApplied(request, DBCLUSTER_ACTIVE)).isFalse();
+        assertThat(ModificationTracker.isApplied(request, DBCLUSTER_ACTIVE.toBuilder().engineVersion("5.7.mysql_aurora.2.10.2").build())).isTrue();
+    }
+
+    @Test
+    public void isApplied_MajorEngineVersion() {
+        final ModifyDbClusterRequest request = modifyRequest().engineVersion("8.0").build();
+        assertThat(ModificationTracker.isApplied(request, DBCLUSTER_ACTIVE)).isFalse();
+        assertThat(ModificationTracker.isApplied(request, DBCLUSTER_ACTIVE.toBuilder().engineVersion("8.0.mysql_aurora.3.02.0").build())).isTrue();
+    }
+
+    @Test
+    public void isApplied_EngineVersionPrefixIsNotAMatch() {
+        // "5.7" must not be taken for applied by a live "5.71..." version.
+        final ModifyDbClusterRequest request = modifyRequest().engineVersion("5.7").build();
+        assertThat(ModificationTracker.isApplied(request, DBCLUSTER_ACTIVE.toBuilder().engineVersion("5.71.0").build())).isFalse();
+    }
+
+    @Test
+    public void isApplied_EnableLogExports() {
+        final ModifyDbClusterRequest request = modifyRequest()
+                .cloudwatchLogsExportConfiguration(CloudwatchLogsExportConfiguration.builder().enableLogTypes("audit").build())
+                .build();
+        assertThat(ModificationTracker.isApplied(request, DBCLUSTER_ACTIVE)).isFalse();
+        assertThat(ModificationTracker.isApplied(request, DBCLUSTER_ACTIVE.toBuilder().enabledCloudwatchLogsExports("error", "audit").build())).isTrue();
+    }
+
+    @Test
+    public void isApplied_DisableLogExports() {
+        final ModifyDbClusterRequest request = modifyRequest()
+                .cloudwatchLogsExportConfiguration(CloudwatchLogsExportConfiguration.builder().disableLogTypes("error").build())
+                .build();
+        assertThat(ModificationTracker.isApplied(request, DBCLUSTER_ACTIVE)).isFalse();
+        assertThat(ModificationTracker.isApplied(request, DBCLUSTER_ACTIVE.toBuilder().enabledCloudwatchLogsExports(Collections.emptyList()).build())).isTrue();
+    }
+
+    @Test
+    public void isApplied_VpcSecurityGroups() {
+        final ModifyDbClusterRequest request = modifyRequest().vpcSecurityGroupIds("sg-2").build();
+        assertThat(ModificationTracker.isApplied(request, DBCLUSTER_ACTIVE)).isFalse();
+        assertThat(ModificationTracker.isApplied(request, DBCLUSTER_ACTIVE.toBuilder()
+                .vpcSecurityGroups(VpcSecurityGroupMembership.builder().vpcSecurityGroupId("sg-2").status("adding").build())
+                .build())).isFalse();
+        assertThat(ModificationTracker.isApplied(request, DBCLUSTER_ACTIVE.toBuilder()
+                .vpcSecurityGroups(VpcSecurityGroupMembership.builder().vpcSecurityGroupId("sg-2").status("active").build())
+                .build())).isTrue();
+    }
+}
@@ -6,6 +6,7 @@ import software.amazon.awssdk.services.rds.model.DescribeDbClustersRequest;
 import software.amazon.awssdk.services.rds.model.DescribeDbClustersResponse;
 import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.rds.model.Tag;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -23,6 +24,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -77,4 +79,22 @@ public class ReadHandlerTest extends AbstractTestBase {
         verify(rds).describeDBClusters(any(DescribeDbClustersRequest.class));
         verify(rds).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
+
+    @Test
+    public void handleRequest_TagsFromDescribe_ShouldNotListTags() {
+        final DescribeDbClustersResponse describeActiveDbClustersResponse = DescribeDbClustersResponse.builder()
+                .dbClusters(DBCLUSTER_ACTIVE.toBuilder().tagList(Tag.builder().key("key").value("value").build()).build())
+                .build();
+        when(proxyRdsClient.client().describeDBClusters(any(DescribeDbClustersRequest.class))).thenReturn(describeActiveDbClustersResponse);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(RESOURCE_MODEL).build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getTags()).containsExactly(software.amazon.rds.dbcluster.Tag.builder().key("key").value("value").build());
+
+        verify(rds).describeDBClusters(any(DescribeDbClustersRequest.class));
+        verify(rds, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
 }
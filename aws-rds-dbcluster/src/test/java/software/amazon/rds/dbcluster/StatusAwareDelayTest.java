@@ -0,0 +1,61 @@
+package software.amazon.rds.dbcluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.Delay;
+
+public class StatusAwareDelayTest {
+
+    @Test
+    public void nextDelay_FollowsObservedStatus() {
+        final AtomicReference<String> status = new AtomicReference<>(DBClusterStatus.FailingOver.toString());
+        final Delay delay = new StatusAwareDelay(status::get, Duration.ofMinutes(10), new PollingState());
+
+        assertThat(delay.nextDelay(1)).isEqualTo(DBClusterStatus.Pace.Quick.getDelay());
+        status.set(DBClusterStatus.Creating.toString());
+        assertThat(delay.nextDelay(2)).isEqualTo(DBClusterStatus.Pace.Regular.getDelay());
+        status.set(DBClusterStatus.Upgrading.toString());
+        assertThat(delay.nextDelay(3)).isEqualTo(DBClusterStatus.Pace.Slow.getDelay());
+    }
+
+    @Test
+    public void nextDelay_UnknownStatusUsesRegularPace() {
+        final Delay delay = new StatusAwareDelay(() -> null, Duration.ofMinutes(10), new PollingState());
+        assertThat(delay.nextDelay(1)).isEqualTo(DBClusterStatus.Pace.Regular.getDelay());
+    }
+
+    @Test
+    public void nextDelay_TimesOut() {
+        final Delay delay = new StatusAwareDelay(DBClusterStatus.Upgrading::toString, Duration.ofSeconds(90), new PollingState());
+        assertThat(delay.nextDelay(1)).isEqualTo(Duration.ofSeconds(60));
+        assertThat(delay.nextDelay(2)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(delay.nextDelay(3)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void nextDelay_TimesOutAcrossInvocations() {
+        // The proxy builds a new delay on every handler invocation, the polling state is all that carries over.
+        final PollingState state = new PollingState();
+        assertThat(new StatusAwareDelay(DBClusterStatus.Upgrading::toString, Duration.ofSeconds(90), state).nextDelay(1))
+                .isEqualTo(Duration.ofSeconds(60));
+        assertThat(new StatusAwareDelay(DBClusterStatus.Upgrading::toString, Duration.ofSeconds(90), state).nextDelay(2))
+                .isEqualTo(Duration.ofSeconds(30));
+        assertThat(new StatusAwareDelay(DBClusterStatus.Upgrading::toString, Duration.ofSeconds(90), state).nextDelay(3))
+                .isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void nextDelay_NewCallChainStartsOver() {
+        final PollingState state = new PollingState();
+        new StatusAwareDelay(DBClusterStatus.Upgrading::toString, Duration.ofSeconds(90), state).nextDelay(1);
+        new StatusAwareDelay(DBClusterStatus.Upgrading::toString, Duration.ofSeconds(90), state).nextDelay(2);
+
+        // A new call chain counts its attempts from the start again and gets the whole timeout.
+        assertThat(new StatusAwareDelay(DBClusterStatus.Upgrading::toString, Duration.ofSeconds(90), state).nextDelay(1))
+                .isEqualTo(Duration.ofSeconds(60));
+    }
+}
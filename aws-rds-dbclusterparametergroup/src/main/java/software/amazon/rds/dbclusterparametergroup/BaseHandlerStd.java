@@ -1,10 +1,20 @@
 package software.amazon.rds.dbclusterparametergroup;
 
 import com.amazonaws.util.StringUtils;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Sets;
 import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.DbParameterGroupNotFoundException;
 import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
@@ -12,7 +22,11 @@ import software.amazon.awssdk.services.rds.model.DescribeDbClusterParameterGroup
 import software.amazon.awssdk.services.rds.model.DescribeDbClusterParameterGroupsResponse;
 import software.amazon.awssdk.services.rds.model.Parameter;
 import software.amazon.awssdk.services.rds.model.DescribeDbClusterParametersResponse;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.CallChain.Completed;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
@@ -20,6 +34,7 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.delay.Constant;
 
 
 import java.util.stream.Collectors;
@@ -31,6 +46,13 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     protected static int MAX_LENGTH_GROUP_NAME = 255;
     protected static int CALLBACK_DELAY_SECONDS = 5 * 60; // 5 min for propagation
     protected static int NO_CALLBACK_DELAY = 0;
+    protected static int MAX_PARAMETERS_PER_REQUEST = 20;
+    protected static int MAX_DEPTH = 70; //max depth to avoid infinite loop
+    protected static final String THROTTLING_MESSAGE = "Rate exceeded";
+    // outlives CALLBACK_DELAY_SECONDS so that the propagation deadline is hit first
+    protected static final Constant PROPAGATION_CHECK = Constant.of().timeout(Duration.ofSeconds(2L * CALLBACK_DELAY_SECONDS))
+            .delay(Duration.ofSeconds(15L)).build();
+    protected static final BiFunction<ResourceModel, ProxyClient<RdsClient>, ResourceModel> EMPTY_CALL = (model, proxyClient) -> model;
 
 
     @Override
@@ -38,7 +60,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                                                                        final ResourceHandlerRequest<ResourceModel> request,
                                                                        final CallbackContext callbackContext,
                                                                        final Logger logger) {
-        return handleRequest(proxy, request, callbackContext != null ? callbackContext : new CallbackContext(), proxy.newProxy(ClientBuilder::getClient), logger);
+        return handleRequest(proxy, request, callbackContext != null ? callbackContext : new CallbackContext(), proxy.newProxy(() -> ClientBuilder.getClient(request.getRegion())), logger);
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(AmazonWebServicesClientProxy proxy,
@@ -53,38 +75,144 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                                                                             final CallbackContext callbackContext) {
         if (callbackContext.isParametersApplied()) return ProgressEvent.defaultInProgressHandler(callbackContext, NO_CALLBACK_DELAY, model);
 
-        callbackContext.setParametersApplied(true);
-        ProgressEvent<ResourceModel, CallbackContext> progress = ProgressEvent.defaultInProgressHandler(callbackContext, CALLBACK_DELAY_SECONDS, model);
+        if (model.getParameters().isEmpty()) { // nothing to modify, nothing to wait for
+            callbackContext.setParametersApplied(true);
+            return ProgressEvent.progress(model, callbackContext);
+        }
 
-        if (model.getParameters().isEmpty()) return progress;
+        if (!callbackContext.isParametersModified()) {
+            final ProgressEvent<ResourceModel, CallbackContext> progress = modifyParameters(proxy, proxyClient, model, callbackContext);
+            if (progress.isFailed()) return progress;
 
+            callbackContext.setParametersModified(true);
+            callbackContext.setPropagationDeadline(Instant.now().plusSeconds(CALLBACK_DELAY_SECONDS).toEpochMilli());
+        }
+
+        return verifyParameters(proxy, proxyClient, model, callbackContext);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> modifyParameters(final AmazonWebServicesClientProxy proxy,
+                                                                           final ProxyClient<RdsClient> proxyClient,
+                                                                           final ResourceModel model,
+                                                                           final CallbackContext callbackContext) {
         // check if provided parameter is supported by rds
-        Set<String> paramNames = model.getParameters().keySet();
+        final Set<String> paramNames = new HashSet<>(model.getParameters().keySet());
+        final List<Parameter> params = new ArrayList<>();
 
+        // collect every parameter to modify first, so that nothing is modified unless all of them are valid
         String marker = null;
+        int depth = 0;
         do {
+            try {
+                final DescribeDbClusterParametersResponse dbClusterParametersResponse = proxyClient.injectCredentialsAndInvokeV2(
+                        Translator.describeDbClusterParametersRequest(model, marker), proxyClient.client()::describeDBClusterParameters);
 
-            final DescribeDbClusterParametersResponse dbClusterParametersResponse = proxyClient.injectCredentialsAndInvokeV2(
-                    Translator.describeDbClusterParametersRequest(model, marker), proxyClient.client()::describeDBClusterParameters);
+                marker = dbClusterParametersResponse.marker();
+                final Set<Parameter> pageParams = Translator.getParametersToModify(model, dbClusterParametersResponse.parameters());
 
-            marker = dbClusterParametersResponse.marker();
-            final Set<Parameter> params = Translator.getParametersToModify(model, dbClusterParametersResponse.parameters());
+                // substract set of found and modified params
+                paramNames.removeAll(pageParams.stream().map(Parameter::parameterName).collect(Collectors.toSet()));
+                params.addAll(pageParams);
+            } catch (AwsServiceException e) {
+                throw toCfnException(e);
+            }
+        } while (!paramNames.isEmpty() && !StringUtils.isNullOrEmpty(marker) && ++depth <= MAX_DEPTH); // no need for the remaining pages once all are found
+        // the parameters left on the unread pages are not known to be invalid
+        if (!paramNames.isEmpty() && !StringUtils.isNullOrEmpty(marker)) {
+            throw new CfnGeneralServiceException("describeDBClusterParameters: more than " + MAX_DEPTH + " pages for " + model.getDBClusterParameterGroupName());
+        }
+        // if there are parameters left that couldn't be found in rds api then they are invalid
+        if (!paramNames.isEmpty()) throw new CfnInvalidRequestException("Invalid / Unsupported DB Parameter: " + paramNames.stream().findFirst().get());
 
-            // if no params need to be modified then skip the api invocation
-            if (params.isEmpty()) continue;
+        int batch = 0;
+        for (List<Parameter> paramsPartition : Iterables.partition(params, MAX_PARAMETERS_PER_REQUEST)) { //modify api call is limited to 20 parameter per request
+            final ProgressEvent<ResourceModel, CallbackContext> progress = proxy.initiate("rds::modify-db-cluster-parameter-group-" + batch++, proxyClient, model, callbackContext)
+                    .translateToServiceRequest((resourceModel) -> Translator.modifyDbClusterParameterGroupRequest(resourceModel, paramsPartition))
+                    .makeServiceCall((request, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(request, proxyInvocation.client()::modifyDBClusterParameterGroup))
+                    .handleError((request, exception, proxyInvocation, resourceModel, context) -> handleException(exception))
+                    .progress();
+            if (progress.isFailed()) return progress;
+        }
 
-            // substract set of found and modified params
-            paramNames.removeAll(params.stream().map(Parameter::parameterName).collect(Collectors.toSet()));
+        return ProgressEvent.progress(model, callbackContext);
+    }
 
-            progress = proxy.initiate("rds::modify-db-cluster-parameter-group::" + marker, proxyClient, model, callbackContext)
-                    .translateToServiceRequest((resourceModel) -> Translator.modifyDbClusterParameterGroupRequest(resourceModel, params))
-                    .makeServiceCall((request, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(request, proxyInvocation.client()::modifyDBClusterParameterGroup))
-                    .progress(CALLBACK_DELAY_SECONDS);
-        } while (!StringUtils.isNullOrEmpty(marker));
-        // if there are parameters left that couldn't be found in rds api then they are invalid
-        if (!paramNames.isEmpty()) throw new CfnInvalidRequestException("Invalid / Unsupported DB Parameter: " + paramNames.stream().findFirst().get());
+    // Waits for the group to show the new values instead of sleeping for the whole propagation time.
+    private ProgressEvent<ResourceModel, CallbackContext> verifyParameters(final AmazonWebServicesClientProxy proxy,
+                                                                           final ProxyClient<RdsClient> proxyClient,
+                                                                           final ResourceModel model,
+                                                                           final CallbackContext callbackContext) {
+        return proxy.initiate("rds::verify-db-cluster-parameter-group-parameters", proxyClient, model, callbackContext)
+                .translateToServiceRequest(Function.identity())
+                .backoffDelay(PROPAGATION_CHECK)
+                // this skips the call and goes directly to stabilization
+                .makeServiceCall(EMPTY_CALL)
+                .stabilize((request, response, proxyInvocation, resourceModel, context) -> isParametersPropagated(proxyInvocation, resourceModel, context))
+                .handleError((request, exception, proxyInvocation, resourceModel, context) -> handleException(exception))
+                .done((request, response, proxyInvocation, resourceModel, context) -> {
+                    context.setParametersApplied(true);
+                    return ProgressEvent.progress(resourceModel, context);
+                });
+    }
+
+    // CALLBACK_DELAY_SECONDS stays as an upper bound: past it the parameters are deemed propagated
+    // even if the group does not show them yet, just like after the fixed wait.
+    // The parameters left out of the model are reset as a whole beforehand, so only the desired values are checked.
+    protected boolean isParametersPropagated(final ProxyClient<RdsClient> proxyClient,
+                                             final ResourceModel model,
+                                             final CallbackContext callbackContext) {
+        if (Instant.now().toEpochMilli() >= callbackContext.getPropagationDeadline()) return true;
+
+        final Map<String, Object> userParameters = describeUserParameters(proxyClient, model);
+        return model.getParameters().entrySet().stream()
+                .allMatch(entry -> String.valueOf(entry.getValue()).equals(userParameters.get(entry.getKey())));
+    }
+
+    // Only the parameters changed from the engine defaults are described: one or two pages instead of the whole engine.
+    protected Map<String, Object> describeUserParameters(final ProxyClient<RdsClient> proxyClient,
+                                                         final ResourceModel model) {
+        final Map<String, Object> params = new HashMap<>();
+        String marker = null;
+        int depth = 0;
+        do {
+            try {
+                final DescribeDbClusterParametersResponse dbClusterParametersResponse = proxyClient.injectCredentialsAndInvokeV2(
+                        Translator.describeUserDbClusterParametersRequest(model, marker), proxyClient.client()::describeDBClusterParameters);
+
+                marker = dbClusterParametersResponse.marker();
+                dbClusterParametersResponse.parameters().stream()
+                        .filter(parameter -> parameter.parameterValue() != null)
+                        .forEach(parameter -> params.put(parameter.parameterName(), parameter.parameterValue()));
+            } catch (AwsServiceException e) {
+                throw toCfnException(e);
+            }
+        } while (!StringUtils.isNullOrEmpty(marker) && ++depth <= MAX_DEPTH);
+        // a truncated map would read as parameters missing from the group
+        if (!StringUtils.isNullOrEmpty(marker)) {
+            throw new CfnGeneralServiceException("describeDBClusterParameters: more than " + MAX_DEPTH + " pages for " + model.getDBClusterParameterGroupName());
+        }
+        return params;
+    }
+
+    // describeUserParameters already throws the exception matching the handler error code of a service error.
+    protected ProgressEvent<ResourceModel, CallbackContext> handleException(final Exception e) {
+        if (e instanceof BaseHandlerException) {
+            return ProgressEvent.defaultFailureHandler(e, ((BaseHandlerException) e).getErrorCode());
+        } else if (e instanceof AwsServiceException) {
+            return handleException(toCfnException((AwsServiceException) e));
+        }
+        return ProgressEvent.defaultFailureHandler(e, HandlerErrorCode.InternalFailure);
+    }
 
-        return progress;
+    // The reads outside of a call chain have no progress event to return, so a service error is thrown
+    // as the exception matching its handler error code instead.
+    protected RuntimeException toCfnException(final AwsServiceException e) {
+        if (e instanceof DbParameterGroupNotFoundException) {
+            return new CfnNotFoundException(e);
+        } else if (e.isThrottlingException() || THROTTLING_MESSAGE.equals(e.getMessage())) {
+            return new CfnThrottlingException(e);
+        }
+        return new CfnGeneralServiceException(e);
     }
 
     protected Completed<DescribeDbClusterParameterGroupsRequest,
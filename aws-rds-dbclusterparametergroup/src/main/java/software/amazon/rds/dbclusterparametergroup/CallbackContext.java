@@ -9,6 +9,8 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
     private boolean parametersApplied;
+    private boolean parametersModified;
+    private long propagationDeadline;
     private String marker;
     private boolean clusterStabilized;
 }
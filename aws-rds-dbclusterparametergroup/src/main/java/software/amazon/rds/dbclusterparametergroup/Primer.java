@@ -0,0 +1,30 @@
+package software.amazon.rds.dbclusterparametergroup;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.awssdk.services.rds.model.Tag;
+import software.amazon.cloudformation.resource.Serializer;
+
+// Loads the classes a first Read invocation needs while the Lambda container initializes: the model and callback
+// context serialization, the DescribeDBClusterParameterGroups request and the tag translation. No request leaves
+// the container.
+final class Primer {
+
+    private static final String PRIMING_IDENTIFIER = "priming";
+
+    private Primer() {
+    }
+
+    static void prime() throws IOException {
+        final ResourceModel model = ResourceModel.builder().dBClusterParameterGroupName(PRIMING_IDENTIFIER).build();
+
+        final Serializer serializer = new Serializer();
+        serializer.deserialize(serializer.serialize(model), new TypeReference<ResourceModel>() {});
+        serializer.deserialize(serializer.serialize(new CallbackContext()), new TypeReference<CallbackContext>() {});
+
+        Translator.describeDbClusterParameterGroupsRequest(model);
+        Translator.translateTagsFromSdk(Collections.singletonList(Tag.builder().key(PRIMING_IDENTIFIER).value(PRIMING_IDENTIFIER).build()));
+    }
+}
@@ -1,5 +1,7 @@
 package software.amazon.rds.dbclusterparametergroup;
 
+import java.util.Map;
+
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.DBClusterParameterGroup;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -21,6 +23,8 @@ public class ReadHandler extends BaseHandlerStd {
                     resourceModel.setDescription(group.description());
                     resourceModel.setFamily(group.dbParameterGroupFamily());
                     resourceModel.setTags(listTags(proxyInvocation, group.dbClusterParameterGroupArn()));
+                    final Map<String, Object> parameters = describeUserParameters(proxyInvocation, resourceModel);
+                    resourceModel.setParameters(parameters.isEmpty() ? null : parameters);
                     return ProgressEvent.defaultSuccessHandler(resourceModel);
                 });
     }
@@ -25,7 +25,8 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 public class Translator {
-    private static final int MAX_RECORDS_TO_DESCRIBE = 20;
+    private static final int MAX_RECORDS_PER_PAGE = 100;
+    private static final String USER_SOURCE = "user"; // the parameters changed from the engine defaults
     private static final String STATIC_TYPE = "static";
     private static final String DYNAMIC_TYPE = "dynamic";
     private static final ApplyMethod IMMEDIATE_APPLY_METHOD = ApplyMethod.IMMEDIATE;;
@@ -46,7 +47,17 @@ public class Translator {
         return DescribeDbClusterParametersRequest.builder()
                 .dbClusterParameterGroupName(model.getDBClusterParameterGroupName())
                 .marker(nextToken)
-                .maxRecords(MAX_RECORDS_TO_DESCRIBE)
+                .maxRecords(MAX_RECORDS_PER_PAGE)
+                .build();
+    }
+
+    static DescribeDbClusterParametersRequest describeUserDbClusterParametersRequest(final ResourceModel model,
+                                                                                     final String nextToken) {
+        return DescribeDbClusterParametersRequest.builder()
+                .dbClusterParameterGroupName(model.getDBClusterParameterGroupName())
+                .source(USER_SOURCE)
+                .marker(nextToken)
+                .maxRecords(MAX_RECORDS_PER_PAGE)
                 .build();
     }
 
@@ -78,7 +89,7 @@ public class Translator {
     }
 
     static ModifyDbClusterParameterGroupRequest modifyDbClusterParameterGroupRequest(final ResourceModel model,
-                                                                                     final Set<Parameter> parameters) {
+                                                                                     final Collection<Parameter> parameters) {
         return ModifyDbClusterParameterGroupRequest.builder()
                 .dbClusterParameterGroupName(model.getDBClusterParameterGroupName())
                 .parameters(parameters)
@@ -21,8 +21,11 @@ import software.amazon.awssdk.services.rds.model.CreateDbClusterParameterGroupRe
 import software.amazon.awssdk.services.rds.model.DescribeDbClusterParametersResponse;
 import software.amazon.awssdk.services.rds.model.ModifyDbClusterParameterGroupResponse;
 import software.amazon.awssdk.services.rds.model.Parameter;
+import software.amazon.awssdk.services.rds.model.RdsException;
 import software.amazon.awssdk.services.rds.model.Tag;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
@@ -33,17 +36,22 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -112,6 +120,8 @@ public class CreateHandlerTest extends AbstractTestBase {
         final ListTagsForResourceResponse listTagsForResourceResponse = ListTagsForResourceResponse.builder()
             .tagList(Tag.builder().key("key").value("value").build()).build();
         when(proxyRdsClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsForResourceResponse);
+        final DescribeDbClusterParametersResponse describeDbClusterParametersResponse = DescribeDbClusterParametersResponse.builder().build();
+        when(proxyRdsClient.client().describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class))).thenReturn(describeDbClusterParametersResponse);
 
         CallbackContext callbackContext = new CallbackContext();
         callbackContext.setParametersApplied(true);
@@ -134,19 +144,20 @@ public class CreateHandlerTest extends AbstractTestBase {
         verify(proxyRdsClient.client()).createDBClusterParameterGroup(any(CreateDbClusterParameterGroupRequest.class));
         verify(proxyRdsClient.client()).describeDBClusterParameterGroups(any(DescribeDbClusterParameterGroupsRequest.class));
         verify(proxyRdsClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(proxyRdsClient.client()).describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class));
     }
 
     @Test
-    public void handleRequest_SimpleInProgress() {
+    public void handleRequest_SimpleSuccessParametersPropagated() {
         final CreateHandler handler = new CreateHandler();
         final CreateDbClusterParameterGroupResponse createDbClusterParameterGroupResponse = CreateDbClusterParameterGroupResponse.builder().build();
         when(rds.createDBClusterParameterGroup(any(CreateDbClusterParameterGroupRequest.class))).thenReturn(createDbClusterParameterGroupResponse);
         final DescribeDbClusterParametersResponse describeDbClusterParametersResponse = DescribeDbClusterParametersResponse.builder().marker(null)
                 .parameters(Parameter.builder()
-                        .parameterName("param")
-                        .parameterValue("system_value")
-                        .isModifiable(true)
-                        .applyType("static")
+                                .parameterName("param")
+                                .parameterValue("system_value")
+                                .isModifiable(true)
+                                .applyType("static")
                                 .build(),
                         Parameter.builder()
                                 .parameterName("param2")
@@ -154,11 +165,13 @@ public class CreateHandlerTest extends AbstractTestBase {
                                 .isModifiable(true)
                                 .applyType("dynamic")
                                 .build()).build();
-        when(rds.describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class))).thenReturn(describeDbClusterParametersResponse);
+        when(rds.describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class)))
+                .thenReturn(describeDbClusterParametersResponse, propagatedDbClusterParametersResponse());
         final ModifyDbClusterParameterGroupResponse modifyDbClusterParameterGroupResponse = ModifyDbClusterParameterGroupResponse.builder().build();
         when(rds.modifyDBClusterParameterGroup(any(ModifyDbClusterParameterGroupRequest.class))).thenReturn(modifyDbClusterParameterGroupResponse);
-
+        mockReadResponses();
         RESOURCE_MODEL.setDBClusterParameterGroupName("sampleName");
+
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .clientRequestToken("token")
                 .desiredResourceState(RESOURCE_MODEL)
@@ -167,21 +180,22 @@ public class CreateHandlerTest extends AbstractTestBase {
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
 
         assertThat(response).isNotNull();
-        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
-        assertThat(response.getCallbackContext()).isNotNull();
-        assertThat(response.getCallbackDelaySeconds()).isEqualTo(300);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyRdsClient.client()).createDBClusterParameterGroup(any(CreateDbClusterParameterGroupRequest.class));
-        verify(proxyRdsClient.client()).describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class));
+        // once to look the parameters up, once to verify the propagation, once more to read the resource back
+        verify(proxyRdsClient.client(), times(3)).describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class));
         verify(proxyRdsClient.client()).modifyDBClusterParameterGroup(any(ModifyDbClusterParameterGroupRequest.class));
+        verify(proxyRdsClient.client()).describeDBClusterParameterGroups(any(DescribeDbClusterParameterGroupsRequest.class));
+        verify(proxyRdsClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 
-
     @Test
-    public void handleRequest_SimpleInProgressFailed() {
+    public void handleRequest_SimpleSuccessUnknownApplyType() {
         final CreateHandler handler = new CreateHandler();
         final CreateDbClusterParameterGroupResponse createDbClusterParameterGroupResponse = CreateDbClusterParameterGroupResponse.builder().build();
         when(rds.createDBClusterParameterGroup(any(CreateDbClusterParameterGroupRequest.class))).thenReturn(createDbClusterParameterGroupResponse);
@@ -198,9 +212,11 @@ public class CreateHandlerTest extends AbstractTestBase {
                                 .isModifiable(true)
                                 .applyType("new")
                                 .build()).build();
-        when(rds.describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class))).thenReturn(describeDbClusterParametersResponse);
+        when(rds.describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class)))
+                .thenReturn(describeDbClusterParametersResponse, propagatedDbClusterParametersResponse());
         final ModifyDbClusterParameterGroupResponse modifyDbClusterParameterGroupResponse = ModifyDbClusterParameterGroupResponse.builder().build();
         when(rds.modifyDBClusterParameterGroup(any(ModifyDbClusterParameterGroupRequest.class))).thenReturn(modifyDbClusterParameterGroupResponse);
+        mockReadResponses();
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .clientRequestToken("token")
@@ -210,15 +226,71 @@ public class CreateHandlerTest extends AbstractTestBase {
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
 
         assertThat(response).isNotNull();
-        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
-        assertThat(response.getCallbackContext()).isNotNull();
-        assertThat(response.getCallbackDelaySeconds()).isEqualTo(300);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyRdsClient.client()).createDBClusterParameterGroup(any(CreateDbClusterParameterGroupRequest.class));
-        verify(proxyRdsClient.client()).describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class));
+        // once to look the parameters up, once to verify the propagation, once more to read the resource back
+        verify(proxyRdsClient.client(), times(3)).describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class));
+        verify(proxyRdsClient.client()).modifyDBClusterParameterGroup(any(ModifyDbClusterParameterGroupRequest.class));
+        verify(proxyRdsClient.client()).describeDBClusterParameterGroups(any(DescribeDbClusterParameterGroupsRequest.class));
+        verify(proxyRdsClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ParametersAcrossPages_ShouldCoalesceModifyRequests() {
+        final CreateHandler handler = new CreateHandler();
+        final CreateDbClusterParameterGroupResponse createDbClusterParameterGroupResponse = CreateDbClusterParameterGroupResponse.builder().build();
+        when(rds.createDBClusterParameterGroup(any(CreateDbClusterParameterGroupRequest.class))).thenReturn(createDbClusterParameterGroupResponse);
+
+        final Map<String, Object> params = new HashMap<>();
+        final List<Parameter> firstPage = new ArrayList<>();
+        final List<Parameter> secondPage = new ArrayList<>();
+        final List<Parameter> propagated = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            params.put("param" + i, "value");
+            (i < 15 ? firstPage : secondPage).add(Parameter.builder()
+                    .parameterName("param" + i)
+                    .parameterValue("system_value")
+                    .isModifiable(true)
+                    .applyType("dynamic")
+                    .build());
+            propagated.add(Parameter.builder().parameterName("param" + i).parameterValue("value").build());
+        }
+        when(rds.describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class))).thenReturn(
+                DescribeDbClusterParametersResponse.builder().parameters(firstPage).marker("marker").build(),
+                DescribeDbClusterParametersResponse.builder().parameters(secondPage).build(),
+                DescribeDbClusterParametersResponse.builder().parameters(propagated).build());
+        final ModifyDbClusterParameterGroupResponse modifyDbClusterParameterGroupResponse = ModifyDbClusterParameterGroupResponse.builder().build();
+        when(rds.modifyDBClusterParameterGroup(any(ModifyDbClusterParameterGroupRequest.class))).thenReturn(modifyDbClusterParameterGroupResponse);
+        mockReadResponses();
+
+        RESOURCE_MODEL.setParameters(params);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .clientRequestToken("token")
+                .desiredResourceState(RESOURCE_MODEL)
+                .desiredResourceTags(translateTagsToMap(TAG_SET))
+                .logicalResourceIdentifier("logicalId").build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        final ArgumentCaptor<DescribeDbClusterParametersRequest> describeCaptor = ArgumentCaptor.forClass(DescribeDbClusterParametersRequest.class);
+        verify(proxyRdsClient.client(), times(4)).describeDBClusterParameters(describeCaptor.capture());
+        assertThat(describeCaptor.getAllValues().get(0).maxRecords()).isEqualTo(100);
+        assertThat(describeCaptor.getAllValues().get(1).marker()).isEqualTo("marker");
+
+        final ArgumentCaptor<ModifyDbClusterParameterGroupRequest> modifyCaptor = ArgumentCaptor.forClass(ModifyDbClusterParameterGroupRequest.class);
+        verify(proxyRdsClient.client(), times(2)).modifyDBClusterParameterGroup(modifyCaptor.capture());
+        assertThat(modifyCaptor.getAllValues()).extracting(modifyRequest -> modifyRequest.parameters().size()).containsExactly(20, 5);
+
+        verify(proxyRdsClient.client()).createDBClusterParameterGroup(any(CreateDbClusterParameterGroupRequest.class));
+        verify(proxyRdsClient.client()).describeDBClusterParameterGroups(any(DescribeDbClusterParameterGroupsRequest.class));
+        verify(proxyRdsClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 
     @Test
@@ -251,6 +323,87 @@ public class CreateHandlerTest extends AbstractTestBase {
         verify(proxyRdsClient.client()).describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class));
     }
 
+    @Test
+    public void handleRequest_ParameterLookupThrottled() {
+        final CreateHandler handler = new CreateHandler();
+        final CreateDbClusterParameterGroupResponse createDbClusterParameterGroupResponse = CreateDbClusterParameterGroupResponse.builder().build();
+        when(rds.createDBClusterParameterGroup(any(CreateDbClusterParameterGroupRequest.class))).thenReturn(createDbClusterParameterGroupResponse);
+        when(rds.describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class))).thenThrow(
+                RdsException.builder().message("Rate exceeded").build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .clientRequestToken("token")
+                .desiredResourceState(RESOURCE_MODEL)
+                .desiredResourceTags(translateTagsToMap(TAG_SET))
+                .logicalResourceIdentifier("logicalId").build();
+
+        assertThatThrownBy(() -> handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger))
+                .isInstanceOf(CfnThrottlingException.class);
+
+        verify(proxyRdsClient.client()).createDBClusterParameterGroup(any(CreateDbClusterParameterGroupRequest.class));
+        verify(proxyRdsClient.client()).describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ParameterLookupTruncated() {
+        final CreateHandler handler = new CreateHandler();
+        final CreateDbClusterParameterGroupResponse createDbClusterParameterGroupResponse = CreateDbClusterParameterGroupResponse.builder().build();
+        when(rds.createDBClusterParameterGroup(any(CreateDbClusterParameterGroupRequest.class))).thenReturn(createDbClusterParameterGroupResponse);
+        when(rds.describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class))).thenReturn(
+                DescribeDbClusterParametersResponse.builder().marker("marker").build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .clientRequestToken("token")
+                .desiredResourceState(RESOURCE_MODEL)
+                .desiredResourceTags(translateTagsToMap(TAG_SET))
+                .logicalResourceIdentifier("logicalId").build();
+
+        // the parameters on the unread pages must not be reported as unsupported
+        assertThatThrownBy(() -> handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger))
+                .isInstanceOf(CfnGeneralServiceException.class);
+
+        verify(proxyRdsClient.client()).createDBClusterParameterGroup(any(CreateDbClusterParameterGroupRequest.class));
+        verify(proxyRdsClient.client(), times(BaseHandlerStd.MAX_DEPTH + 1)).describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ModifyThrottled() {
+        final CreateHandler handler = new CreateHandler();
+        final CreateDbClusterParameterGroupResponse createDbClusterParameterGroupResponse = CreateDbClusterParameterGroupResponse.builder().build();
+        when(rds.createDBClusterParameterGroup(any(CreateDbClusterParameterGroupRequest.class))).thenReturn(createDbClusterParameterGroupResponse);
+        final DescribeDbClusterParametersResponse describeDbClusterParametersResponse = DescribeDbClusterParametersResponse.builder()
+                .parameters(Parameter.builder()
+                                .parameterName("param")
+                                .parameterValue("system_value")
+                                .isModifiable(true)
+                                .applyType("dynamic")
+                                .build(),
+                        Parameter.builder()
+                                .parameterName("param2")
+                                .parameterValue("system_value")
+                                .isModifiable(true)
+                                .applyType("dynamic")
+                                .build()).build();
+        when(rds.describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class))).thenReturn(describeDbClusterParametersResponse);
+        when(rds.modifyDBClusterParameterGroup(any(ModifyDbClusterParameterGroupRequest.class))).thenThrow(
+                RdsException.builder().message("Rate exceeded").build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .clientRequestToken("token")
+                .desiredResourceState(RESOURCE_MODEL)
+                .desiredResourceTags(translateTagsToMap(TAG_SET))
+                .logicalResourceIdentifier("logicalId").build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.Throttling);
+
+        verify(proxyRdsClient.client()).createDBClusterParameterGroup(any(CreateDbClusterParameterGroupRequest.class));
+        verify(proxyRdsClient.client()).describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class));
+        verify(proxyRdsClient.client()).modifyDBClusterParameterGroup(any(ModifyDbClusterParameterGroupRequest.class));
+    }
+
     @Test
     public void handleRequest_SimpleInProgressFailedUnsupportedParams() {
         final CreateHandler handler = new CreateHandler();
@@ -274,4 +427,22 @@ public class CreateHandlerTest extends AbstractTestBase {
         verify(proxyRdsClient.client()).createDBClusterParameterGroup(any(CreateDbClusterParameterGroupRequest.class));
         verify(proxyRdsClient.client()).describeDBClusterParameters(any(DescribeDbClusterParametersRequest.class));
     }
+
+    private DescribeDbClusterParametersResponse propagatedDbClusterParametersResponse() {
+        return DescribeDbClusterParametersResponse.builder()
+                .parameters(Parameter.builder().parameterName("param").parameterValue("value").build(),
+                        Parameter.builder().parameterName("param2").parameterValue("value").build())
+                .build();
+    }
+
+    private void mockReadResponses() {
+        final DescribeDbClusterParameterGroupsResponse describeDbClusterParameterGroupsResponse = DescribeDbClusterParameterGroupsResponse.builder()
+                .dbClusterParameterGroups(DBClusterParameterGroup.builder()
+                        .dbClusterParameterGroupArn("arn")
+                        .dbParameterGroupFamily(FAMILY)
+                        .description(DESCRIPTION).build()).build();
+        when(rds.describeDBClusterParameterGroups(any(DescribeDbClusterParameterGroupsRequest.class))).thenReturn(describeDbClusterParameterGroupsResponse);
+        final ListTagsForResourceResponse listTagsForResourceResponse = ListTagsForResourceResponse.builder().build();
+        when(rds.listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsForResourceResponse);
+    }
 }
@@ -0,0 +1,13 @@
+package software.amazon.rds.dbclusterparametergroup;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import org.junit.jupiter.api.Test;
+
+public class PrimerTest {
+
+    @Test
+    public void prime_RunsOffline() {
+        assertThatCode(Primer::prime).doesNotThrowAnyException();
+    }
+}
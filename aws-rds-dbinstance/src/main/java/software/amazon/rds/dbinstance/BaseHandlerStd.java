@@ -4,12 +4,14 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.amazonaws.util.CollectionUtils;
@@ -35,6 +37,8 @@ import software.amazon.awssdk.services.rds.model.InsufficientDbInstanceCapacityE
 import software.amazon.awssdk.services.rds.model.InvalidDbClusterStateException;
 import software.amazon.awssdk.services.rds.model.InvalidDbInstanceStateException;
 import software.amazon.awssdk.services.rds.model.InvalidDbSecurityGroupStateException;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.PendingModifiedValues;
 import software.amazon.awssdk.services.rds.model.ProvisionedIopsNotAvailableInAzException;
 import software.amazon.awssdk.services.rds.model.SnapshotQuotaExceededException;
 import software.amazon.awssdk.services.rds.model.StorageQuotaExceededException;
@@ -42,12 +46,14 @@ import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.rds.dbinstance.util.ProgressEventLambda;
+import software.amazon.rds.dbinstance.util.TtlCache;
 import software.amazon.rds.dbinstance.util.VoidBiFunction;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
@@ -83,12 +89,14 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext context,
             final Logger logger) {
+        // Proxy clients resolve the underlying SDK clients lazily: the EC2 client is only built
+        // by the flows that actually call EC2, and both clients are shared across invocations.
         return handleRequest(
                 proxy,
                 request,
                 context != null ? context : new CallbackContext(),
-                proxy.newProxy(RdsClientBuilder::getClient),
-                proxy.newProxy(Ec2ClientBuilder::getClient),
+                proxy.newProxy(() -> RdsClientBuilder.getClient(request.getRegion())),
+                proxy.newProxy(() -> Ec2ClientBuilder.getClient(request.getRegion())),
                 logger);
     }
 
@@ -104,12 +112,19 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 progress.getCallbackContext()
         )
                 .translateToServiceRequest(Function.identity())
-                .backoffDelay(config.getBackoff())
+                .backoffDelay(getBackoffDelay(progress.getCallbackContext()))
                 .makeServiceCall(NOOP_CALL)
-                .stabilize((request, response, proxyInvocation, model, context) -> isDbInstanceStabilized(proxyInvocation, model))
+                .stabilize((request, response, proxyInvocation, model, context) -> isDbInstanceStabilized(proxyInvocation, model, context))
                 .progress();
     }
 
+    protected Delay getBackoffDelay(final CallbackContext context) {
+        return config.getPollingStrategy().newDelay(() -> Optional.ofNullable(context.getDbInstanceSnapshot())
+                        .map(DBInstance::dbInstanceStatus)
+                        .orElse(null),
+                context.getPollingState());
+    }
+
     protected boolean withProbing(
             final CallbackContext context,
             final String probeName,
@@ -140,7 +155,29 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         return StringUtils.isNotBlank(model.getDBSnapshotIdentifier());
     }
 
+    // Returns the request-scoped DBInstance snapshot and only describes the instance if there is none yet.
+    // Any mutating call is expected to invalidate the snapshot before it hits the API.
     protected DBInstance fetchDBInstance(
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final ResourceModel model,
+            final CallbackContext context
+    ) {
+        if (context.getDbInstanceSnapshot() == null) {
+            context.setDbInstanceSnapshot(describeDBInstance(rdsProxyClient, model));
+        }
+        return context.getDbInstanceSnapshot();
+    }
+
+    protected DBInstance refreshDBInstance(
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final ResourceModel model,
+            final CallbackContext context
+    ) {
+        context.invalidateDbInstanceSnapshot();
+        return fetchDBInstance(rdsProxyClient, model, context);
+    }
+
+    protected DBInstance describeDBInstance(
             final ProxyClient<RdsClient> rdsProxyClient,
             final ResourceModel model
     ) {
@@ -167,12 +204,30 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 .orElse(null);
     }
 
+    protected String fetchDefaultSecurityGroupId(
+            final ProxyClient<Ec2Client> ec2ProxyClient,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final String vpcId,
+            final Logger logger
+    ) {
+        final TtlCache<HandlerConfig.DefaultSecurityGroupKey, String> cache = config.getDefaultSecurityGroupCache();
+        final String groupId = cache.computeIfAbsent(
+                new HandlerConfig.DefaultSecurityGroupKey(request.getAwsAccountId(), request.getRegion(), vpcId),
+                key -> Optional.ofNullable(fetchSecurityGroup(ec2ProxyClient, vpcId, "default"))
+                        .map(SecurityGroup::groupId)
+                        .orElse(null)
+        );
+        logger.log(String.format("Default security group cache: %d hits, %d misses", cache.getHits(), cache.getMisses()));
+        return groupId;
+    }
+
     protected boolean isDbInstanceDeleted(
             final ProxyClient<RdsClient> rdsProxyClient,
-            final ResourceModel model
+            final ResourceModel model,
+            final CallbackContext context
     ) {
         try {
-            fetchDBInstance(rdsProxyClient, model);
+            refreshDBInstance(rdsProxyClient, model, context);
         } catch (DbInstanceNotFoundException e) {
             // the instance is gone, exactly what we need
             return true;
@@ -182,57 +237,159 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
     protected boolean isDbInstanceStabilized(
             final ProxyClient<RdsClient> rdsProxyClient,
-            final ResourceModel model
+            final ResourceModel model,
+            final CallbackContext context
     ) {
         try {
-            final DBInstance dbInstance = fetchDBInstance(rdsProxyClient, model);
+            final DBInstance dbInstance = refreshDBInstance(rdsProxyClient, model, context);
+            assertDbInstanceNotInTerminalStatus(dbInstance, model);
             return DBInstanceStatus.Available.equalsString(dbInstance.dbInstanceStatus());
         } catch (DbInstanceNotFoundException e) {
             throw new CfnNotFoundException(ResourceModel.TYPE_NAME, e.getMessage());
+        } catch (DBInstanceTerminalStateException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CfnNotStabilizedException(DB_INSTANCE_FAILED_TO_STABILIZE, model.getDBInstanceIdentifier(), e);
+        }
+    }
+
+    // Succeeds as soon as the change set is observed in place. Probing is only kept for the change sets
+    // the describe output can not confirm: they still need a few consecutive "available" observations.
+    protected boolean isDbInstanceModificationApplied(
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final ModifyDbInstanceRequest modifyRequest,
+            final ResourceModel model,
+            final CallbackContext context,
+            final String probeName
+    ) {
+        return withProbing(
+                context,
+                probeName,
+                ModificationTracker.isObservable(modifyRequest) ? 1 : 3,
+                () -> {
+                    try {
+                        final DBInstance dbInstance = refreshDBInstance(rdsProxyClient, model, context);
+                        assertDbInstanceNotInTerminalStatus(dbInstance, model, modifyRequest);
+                        return ModificationTracker.isApplied(modifyRequest, dbInstance);
+                    } catch (DbInstanceNotFoundException e) {
+                        throw new CfnNotFoundException(ResourceModel.TYPE_NAME, e.getMessage());
+                    } catch (DBInstanceTerminalStateException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        throw new CfnNotStabilizedException(DB_INSTANCE_FAILED_TO_STABILIZE, model.getDBInstanceIdentifier(), e);
+                    }
+                }
+        );
+    }
+
+    // A deferred modification is complete once every requested value is either pending or already in place.
+    protected boolean isDbInstanceModificationPending(
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final ModifyDbInstanceRequest modifyRequest,
+            final ResourceModel model,
+            final CallbackContext context
+    ) {
+        try {
+            final DBInstance dbInstance = refreshDBInstance(rdsProxyClient, model, context);
+            assertDbInstanceNotInTerminalStatus(dbInstance, model, modifyRequest);
+            final PendingModifiedValues pending = Optional.ofNullable(dbInstance.pendingModifiedValues())
+                    .orElse(PendingModifiedValues.builder().build());
+            return isModificationPending(modifyRequest.allocatedStorage(), pending.allocatedStorage(), dbInstance.allocatedStorage()) &&
+                    isModificationPending(modifyRequest.dbInstanceClass(), pending.dbInstanceClass(), dbInstance.dbInstanceClass()) &&
+                    isModificationPending(modifyRequest.engineVersion(), pending.engineVersion(), dbInstance.engineVersion()) &&
+                    isModificationPending(modifyRequest.iops(), pending.iops(), dbInstance.iops()) &&
+                    isModificationPending(modifyRequest.multiAZ(), pending.multiAZ(), dbInstance.multiAZ()) &&
+                    isModificationPending(modifyRequest.storageType(), pending.storageType(), dbInstance.storageType()) &&
+                    (!modifyRequest.hasProcessorFeatures() || pending.hasProcessorFeatures() ||
+                            new HashSet<>(dbInstance.processorFeatures()).containsAll(modifyRequest.processorFeatures()));
+        } catch (DbInstanceNotFoundException e) {
+            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, e.getMessage());
+        } catch (DBInstanceTerminalStateException e) {
+            throw e;
         } catch (Exception e) {
             throw new CfnNotStabilizedException(DB_INSTANCE_FAILED_TO_STABILIZE, model.getDBInstanceIdentifier(), e);
         }
     }
 
+    private static <T> boolean isModificationPending(final T requested, final T pending, final T current) {
+        return requested == null || requested.equals(pending) || requested.equals(current);
+    }
+
+    // Fails the stabilization right away instead of polling an instance that will never become available.
+    protected void assertDbInstanceNotInTerminalStatus(final DBInstance dbInstance, final ResourceModel model) {
+        DBInstanceStatus.fromString(dbInstance.dbInstanceStatus())
+                .filter(DBInstanceStatus::isTerminal)
+                .ifPresent(status -> {
+                    throw new DBInstanceTerminalStateException(model.getDBInstanceIdentifier(), status);
+                });
+    }
+
+    // A modification might be the very intervention a terminal status asks for. The status only moves
+    // some time after the modify call, so until then it is polled like any transition.
+    protected void assertDbInstanceNotInTerminalStatus(
+            final DBInstance dbInstance,
+            final ResourceModel model,
+            final ModifyDbInstanceRequest modifyRequest
+    ) {
+        DBInstanceStatus.fromString(dbInstance.dbInstanceStatus())
+                .filter(DBInstanceStatus::isTerminal)
+                .filter(status -> !isResolvedBy(status, modifyRequest))
+                .ifPresent(status -> {
+                    throw new DBInstanceTerminalStateException(model.getDBInstanceIdentifier(), status);
+                });
+    }
+
+    private static boolean isResolvedBy(final DBInstanceStatus status, final ModifyDbInstanceRequest modifyRequest) {
+        switch (status) {
+            case StorageFull:
+                return modifyRequest.allocatedStorage() != null;
+            case IncompatibleParameters:
+                return modifyRequest.dbParameterGroupName() != null;
+            default:
+                return false;
+        }
+    }
+
     protected boolean isDbInstanceRoleStabilized(
             final ProxyClient<RdsClient> rdsProxyClient,
             final ResourceModel model,
+            final CallbackContext context,
             final Function<Stream<software.amazon.awssdk.services.rds.model.DBInstanceRole>, Boolean> predicate
     ) {
         try {
-            final DBInstance dbInstance = fetchDBInstance(rdsProxyClient, model);
+            final DBInstance dbInstance = refreshDBInstance(rdsProxyClient, model, context);
+            assertDbInstanceNotInTerminalStatus(dbInstance, model);
             return predicate.apply(Optional.ofNullable(
                     dbInstance.associatedRoles()
             ).orElse(Collections.emptyList()).stream());
         } catch (DbInstanceNotFoundException e) {
             throw new CfnNotFoundException(ResourceModel.TYPE_NAME, e.getMessage());
+        } catch (DBInstanceTerminalStateException e) {
+            throw e;
         } catch (Exception e) {
             throw new CfnNotStabilizedException(DB_INSTANCE_ROLE_FAILED_TO_STABILIZE, model.getDBInstanceIdentifier(), e);
         }
     }
 
-    protected boolean isDbInstanceRoleAdditionStabilized(
+    protected boolean isDbInstanceRolesStabilized(
             final ProxyClient<RdsClient> rdsProxyClient,
             final ResourceModel model,
-            final DBInstanceRole lookupRole
-    ) {
-        return isDbInstanceRoleStabilized(
-                rdsProxyClient,
-                model,
-                (roles) -> roles.anyMatch(role -> role.roleArn().equals(lookupRole.getRoleArn()) &&
-                        (role.featureName() == null || role.featureName().equals(lookupRole.getFeatureName())))
-        );
-    }
-
-    protected boolean isDbInstanceRoleRemovalStabilized(
-            final ProxyClient<RdsClient> rdsProxyClient,
-            final ResourceModel model,
-            final DBInstanceRole lookupRole
+            final CallbackContext context,
+            final Collection<DBInstanceRole> rolesToRemove,
+            final Collection<DBInstanceRole> rolesToAdd
     ) {
         return isDbInstanceRoleStabilized(
                 rdsProxyClient,
                 model,
-                (roles) -> roles.noneMatch(role -> role.roleArn().equals(lookupRole.getRoleArn()))
+                context,
+                (roles) -> {
+                    final List<software.amazon.awssdk.services.rds.model.DBInstanceRole> associatedRoles = roles.collect(Collectors.toList());
+                    return rolesToRemove.stream().noneMatch(lookupRole -> associatedRoles.stream()
+                            .anyMatch(role -> role.roleArn().equals(lookupRole.getRoleArn()))) &&
+                            rolesToAdd.stream().allMatch(lookupRole -> associatedRoles.stream()
+                                    .anyMatch(role -> role.roleArn().equals(lookupRole.getRoleArn()) &&
+                                            (role.featureName() == null || role.featureName().equals(lookupRole.getFeatureName()))));
+                }
         );
     }
 
@@ -277,67 +434,96 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         rolesToAdd.removeAll(Optional.ofNullable(previousRoles).orElse(Collections.emptyList()));
         rolesToRemove.removeAll(Optional.ofNullable(desiredRoles).orElse(Collections.emptyList()));
 
-        return progress
-                .then(p -> removeOldRoles(proxy, rdsProxyClient, p, rolesToRemove))
-                .then(p -> addNewRoles(proxy, rdsProxyClient, p, rolesToAdd));
+        // RDS does not allow to re-associate a role ARN before the previous association is gone,
+        // so a feature switch for the same role is applied in 2 batches.
+        final boolean hasReassociations = rolesToAdd.stream()
+                .anyMatch(addRole -> rolesToRemove.stream().anyMatch(removeRole -> removeRole.getRoleArn().equals(addRole.getRoleArn())));
+        if (hasReassociations) {
+            return progress
+                    .then(p -> applyRoleChanges(proxy, rdsProxyClient, p, "removed", rolesToRemove, Collections.emptyList()))
+                    .then(p -> applyRoleChanges(proxy, rdsProxyClient, p, "added", Collections.emptyList(), rolesToAdd));
+        }
+        return progress.then(p -> applyRoleChanges(proxy, rdsProxyClient, p, "all", rolesToRemove, rolesToAdd));
     }
 
-    protected ProgressEvent<ResourceModel, CallbackContext> addNewRoles(
+    // Issues every role removal and addition through its own call graph, so a re-invocation never repeats
+    // a call that already went through, and waits for the whole batch in a single stabilization.
+    protected ProgressEvent<ResourceModel, CallbackContext> applyRoleChanges(
             final AmazonWebServicesClientProxy proxy,
             final ProxyClient<RdsClient> rdsProxyClient,
             final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final String batchName,
+            final Collection<DBInstanceRole> rolesToRemove,
             final Collection<DBInstanceRole> rolesToAdd
     ) {
+        if (rolesToRemove.isEmpty() && rolesToAdd.isEmpty()) {
+            return progress;
+        }
+        ProgressEvent<ResourceModel, CallbackContext> result = progress;
+        for (final DBInstanceRole role : rolesToRemove) {
+            result = result.then(p -> removeRole(proxy, rdsProxyClient, p, role));
+        }
         for (final DBInstanceRole role : rolesToAdd) {
-            final ProgressEvent<ResourceModel, CallbackContext> progressEvent = proxy.initiate("rds::add-roles-to-db-instance", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                    .translateToServiceRequest(addRequest -> Translator.addRoleToDbInstanceRequest(progress.getResourceModel(), role))
-                    .backoffDelay(config.getBackoff())
-                    .makeServiceCall((request, proxyInvocation) -> {
-                        return proxyInvocation.injectCredentialsAndInvokeV2(request, proxyInvocation.client()::addRoleToDBInstance);
-                    })
-                    .stabilize((request, response, proxyInvocation, modelRequest, callbackContext) -> isDbInstanceRoleAdditionStabilized(
-                            proxyInvocation, modelRequest, role
-                    ))
-                    .handleError((request, exception, proxyInvocation, resourceModel, context) -> handleException(
-                            ProgressEvent.progress(resourceModel, context),
-                            exception
-                    ))
-                    .success();
-            if (!progressEvent.isSuccess()) {
-                return progressEvent;
-            }
+            result = result.then(p -> addRole(proxy, rdsProxyClient, p, role));
         }
-        return ProgressEvent.progress(progress.getResourceModel(), progress.getCallbackContext());
+        return result.then(p -> proxy.initiate("rds::stabilize-db-instance-roles-" + batchName, rdsProxyClient, p.getResourceModel(), p.getCallbackContext())
+                .translateToServiceRequest(Function.identity())
+                .backoffDelay(getBackoffDelay(p.getCallbackContext()))
+                .makeServiceCall(NOOP_CALL)
+                .stabilize((request, response, proxyInvocation, model, context) -> isDbInstanceRolesStabilized(
+                        proxyInvocation, model, context, rolesToRemove, rolesToAdd
+                ))
+                .handleError((request, exception, proxyInvocation, resourceModel, context) -> handleException(
+                        ProgressEvent.progress(resourceModel, context),
+                        exception
+                ))
+                .progress());
     }
 
-    protected ProgressEvent<ResourceModel, CallbackContext> removeOldRoles(
+    protected ProgressEvent<ResourceModel, CallbackContext> removeRole(
             final AmazonWebServicesClientProxy proxy,
             final ProxyClient<RdsClient> rdsProxyClient,
             final ProgressEvent<ResourceModel, CallbackContext> progress,
-            final Collection<DBInstanceRole> rolesToRemove
+            final DBInstanceRole role
     ) {
-        for (final DBInstanceRole role : rolesToRemove) {
-            final ProgressEvent<ResourceModel, CallbackContext> progressEvent = proxy.initiate("rds::remove-roles-from-db-instance", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                    .translateToServiceRequest(removeRequest -> Translator.removeRoleFromDbInstanceRequest(
-                            progress.getResourceModel(), role
-                    ))
-                    .backoffDelay(config.getBackoff())
-                    .makeServiceCall((request, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
-                            request, proxyInvocation.client()::removeRoleFromDBInstance
-                    ))
-                    .stabilize((request, response, proxyInvocation, modelRequest, callbackContext) -> isDbInstanceRoleRemovalStabilized(
-                            proxyInvocation, modelRequest, role
-                    ))
-                    .handleError((request, exception, proxyInvocation, resourceModel, context) -> handleException(
-                            ProgressEvent.progress(resourceModel, context),
-                            exception
-                    ))
-                    .success();
-            if (!progressEvent.isSuccess()) {
-                return progressEvent;
-            }
-        }
-        return ProgressEvent.progress(progress.getResourceModel(), progress.getCallbackContext());
+        return proxy.initiate("rds::remove-db-instance-role::" + role.getRoleArn() + "::" + role.getFeatureName(), rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                .translateToServiceRequest(model -> Translator.removeRoleFromDbInstanceRequest(model, role))
+                .backoffDelay(getBackoffDelay(progress.getCallbackContext()))
+                .makeServiceCall((removeRequest, proxyInvocation) -> {
+                    progress.getCallbackContext().invalidateDbInstanceSnapshot();
+                    return proxyInvocation.injectCredentialsAndInvokeV2(
+                            removeRequest,
+                            proxyInvocation.client()::removeRoleFromDBInstance
+                    );
+                })
+                .handleError((request, exception, proxyInvocation, resourceModel, context) -> handleException(
+                        ProgressEvent.progress(resourceModel, context),
+                        exception
+                ))
+                .progress();
+    }
+
+    protected ProgressEvent<ResourceModel, CallbackContext> addRole(
+            final AmazonWebServicesClientProxy proxy,
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final DBInstanceRole role
+    ) {
+        return proxy.initiate("rds::add-db-instance-role::" + role.getRoleArn() + "::" + role.getFeatureName(), rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                .translateToServiceRequest(model -> Translator.addRoleToDbInstanceRequest(model, role))
+                .backoffDelay(getBackoffDelay(progress.getCallbackContext()))
+                .makeServiceCall((addRequest, proxyInvocation) -> {
+                    progress.getCallbackContext().invalidateDbInstanceSnapshot();
+                    return proxyInvocation.injectCredentialsAndInvokeV2(
+                            addRequest,
+                            proxyInvocation.client()::addRoleToDBInstance
+                    );
+                })
+                .handleError((request, exception, proxyInvocation, resourceModel, context) -> handleException(
+                        ProgressEvent.progress(resourceModel, context),
+                        exception
+                ))
+                .progress();
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> reboot(
@@ -351,11 +537,14 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 progress.getResourceModel(),
                 progress.getCallbackContext()
         ).translateToServiceRequest(Translator::rebootDbInstanceRequest)
-                .backoffDelay(config.getBackoff())
-                .makeServiceCall((rebootRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
-                        rebootRequest,
-                        proxyInvocation.client()::rebootDBInstance
-                ))
+                .backoffDelay(getBackoffDelay(progress.getCallbackContext()))
+                .makeServiceCall((rebootRequest, proxyInvocation) -> {
+                    progress.getCallbackContext().invalidateDbInstanceSnapshot();
+                    return proxyInvocation.injectCredentialsAndInvokeV2(
+                            rebootRequest,
+                            proxyInvocation.client()::rebootDBInstance
+                    );
+                })
                 .handleError((request, exception, client, model, context) -> handleException(
                         ProgressEvent.progress(model, context),
                         exception
@@ -363,6 +552,40 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 .progress();
     }
 
+    // Reboots the instance at most once and only if the snapshot shows something waiting for a restart.
+    // The decision is taken on the first invocation only: once the reboot is under way the instance
+    // no longer shows the pending changes, so a re-invocation carries on with the reboot wait instead.
+    protected ProgressEvent<ResourceModel, CallbackContext> rebootAwaitIfRequired(
+            final AmazonWebServicesClientProxy proxy,
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final Logger logger
+    ) {
+        final CallbackContext context = progress.getCallbackContext();
+        if (context.getRebootReasons() == null) {
+            final List<String> rebootReasons;
+            try {
+                rebootReasons = RebootPlanner.getRebootReasons(
+                        fetchDBInstance(rdsProxyClient, progress.getResourceModel(), context)
+                );
+            } catch (DbInstanceNotFoundException e) {
+                return progress;
+            } catch (Exception e) {
+                return handleException(progress, e);
+            }
+            if (!rebootReasons.isEmpty()) {
+                logger.log(String.format("Rebooting DBInstance %s: %s",
+                        progress.getResourceModel().getDBInstanceIdentifier(),
+                        String.join(", ", rebootReasons)));
+            }
+            context.setRebootReasons(rebootReasons);
+        }
+        if (context.getRebootReasons().isEmpty()) {
+            return progress;
+        }
+        return rebootAwait(proxy, rdsProxyClient, progress);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> rebootAwait(
             final AmazonWebServicesClientProxy proxy,
             final ProxyClient<RdsClient> rdsProxyClient,
@@ -379,7 +602,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         if (StringUtils.isEmpty(model.getEngine())) {
             if (isRestoreFromSnapshot(model)) {
                 try {
-                    final DBInstance dbInstance = fetchDBInstance(rdsProxyClient, model);
+                    final DBInstance dbInstance = fetchDBInstance(rdsProxyClient, model, progress.getCallbackContext());
                     model.setEngine(dbInstance.engine());
                 } catch (Exception e) {
                     return handleException(progress, e);
@@ -395,7 +618,9 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     ) {
         final ResourceModel model = progress.getResourceModel();
         final CallbackContext context = progress.getCallbackContext();
-        if (exception instanceof DbInstanceNotFoundException ||
+        if (exception instanceof DBInstanceTerminalStateException) {
+            return ProgressEvent.failed(model, context, ((DBInstanceTerminalStateException) exception).getErrorCode(), exception.getMessage());
+        } else if (exception instanceof DbInstanceNotFoundException ||
                 exception instanceof DbParameterGroupNotFoundException ||
                 exception instanceof DbSecurityGroupNotFoundException ||
                 exception instanceof DbSubnetGroupNotFoundException
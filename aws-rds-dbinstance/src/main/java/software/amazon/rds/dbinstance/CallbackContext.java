@@ -1,8 +1,11 @@
 package software.amazon.rds.dbinstance;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import software.amazon.awssdk.services.rds.model.DBInstance;
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
 @lombok.Getter
@@ -14,13 +17,32 @@ public class CallbackContext extends StdCallbackContext {
     private boolean deleted;
     private boolean updatedRoles;
     private boolean updated;
+    private boolean updatedDeferred;
     private boolean rebooted;
 
+    // The reboot decision, taken once before the reboot starts. Null until then.
+    private List<String> rebootReasons;
+
+    // Update pre-step results, resolved once and reused on every callback re-entry.
+    private boolean parameterGroupNameResolved;
+    private String resolvedDbParameterGroupName;
+    private boolean defaultSecurityGroupResolved;
+    private String defaultSecurityGroupId;
+
     private Map<String, Integer> probes;
 
+    private PollingState pollingState;
+
+    // The latest observed DBInstance state. It lives for a single handler invocation only
+    // and is never serialized: a re-invocation always starts with a fresh describe.
+    @JsonIgnore
+    @lombok.ToString.Exclude
+    private transient DBInstance dbInstanceSnapshot;
+
     public CallbackContext() {
         super();
         this.probes = new HashMap<>();
+        this.pollingState = new PollingState();
     }
 
     public int getProbes(final String sampleName) {
@@ -34,4 +56,8 @@ public class CallbackContext extends StdCallbackContext {
     public void flushProbes(final String sampleName) {
         this.probes.remove(sampleName);
     }
+
+    public void invalidateDbInstanceSnapshot() {
+        this.dbInstanceSnapshot = null;
+    }
 }
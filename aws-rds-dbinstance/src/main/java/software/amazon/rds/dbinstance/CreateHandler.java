@@ -6,11 +6,11 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 
-import com.amazonaws.util.CollectionUtils;
 import com.amazonaws.util.StringUtils;
 import software.amazon.awssdk.services.ec2.Ec2Client;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
@@ -59,29 +59,46 @@ public class CreateHandler extends BaseHandlerStd {
                     } else if (isRestoreFromSnapshot(progress.getResourceModel())) {
                         return restoreDbInstanceFromSnapshot(proxy, rdsProxyClient, progress);
                     }
-                    return createDbInstance(proxy, rdsProxyClient, progress);
+                    return validateOrderableOptions(rdsProxyClient, progress, request.getRegion(), logger)
+                            .then(p -> createDbInstance(proxy, rdsProxyClient, p));
                 }, CallbackContext::isCreated, CallbackContext::setCreated))
                 .then(progress -> ensureEngineSet(rdsProxyClient, progress))
                 .then(progress -> {
-                    if (shouldUpdateAfterCreate(progress.getResourceModel())) {
+                    if (Translator.isModifyAfterCreateRequired(progress.getResourceModel())) {
                         return execOnce(progress, () ->
                                         updateDbInstanceAfterCreate(proxy, rdsProxyClient, progress, request.getDesiredResourceState()),
-                                CallbackContext::isUpdated, CallbackContext::setUpdated)
-                                .then(p -> execOnce(p, () -> {
-                                    if (shouldReboot(p.getResourceModel())) {
-                                        return rebootAwait(proxy, rdsProxyClient, p);
-                                    }
-                                    return p;
-                                }, CallbackContext::isRebooted, CallbackContext::setRebooted));
+                                CallbackContext::isUpdated, CallbackContext::setUpdated);
                     }
                     return progress;
                 })
+                .then(progress -> execOnce(progress, () ->
+                                rebootAwaitIfRequired(proxy, rdsProxyClient, progress, logger),
+                        CallbackContext::isRebooted, CallbackContext::setRebooted))
                 .then(progress -> execOnce(progress, () ->
                                 updateAssociatedRoles(proxy, rdsProxyClient, progress, Collections.emptyList(), desiredRoles),
                         CallbackContext::isUpdatedRoles, CallbackContext::setUpdatedRoles))
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, progress.getCallbackContext(), rdsProxyClient, ec2ProxyClient, logger));
     }
 
+    private ProgressEvent<ResourceModel, CallbackContext> validateOrderableOptions(
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final String region,
+            final Logger logger
+    ) {
+        final Optional<String> violation;
+        try {
+            violation = config.getOrderableOptionsIndex().validate(rdsProxyClient, region, progress.getResourceModel());
+        } catch (Exception e) {
+            // The validation is an optimization only: RDS still has the final word.
+            logger.log(String.format("Skipping orderable options validation: %s", e.getMessage()));
+            return progress;
+        }
+        return violation
+                .map(message -> ProgressEvent.failed(progress.getResourceModel(), progress.getCallbackContext(), HandlerErrorCode.InvalidRequest, message))
+                .orElse(progress);
+    }
+
     private ProgressEvent<ResourceModel, CallbackContext> createDbInstance(
             final AmazonWebServicesClientProxy proxy,
             final ProxyClient<RdsClient> rdsProxyClient,
@@ -93,13 +110,13 @@ public class CreateHandler extends BaseHandlerStd {
                 progress.getResourceModel(),
                 progress.getCallbackContext()
         ).translateToServiceRequest(Translator::createDbInstanceRequest)
-                .backoffDelay(config.getBackoff())
+                .backoffDelay(getBackoffDelay(progress.getCallbackContext()))
                 .makeServiceCall((createRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                         createRequest,
                         proxyInvocation.client()::createDBInstance
                 ))
                 .stabilize((request, response, proxyInvocation, model, context) ->
-                        isDbInstanceStabilized(proxyInvocation, model))
+                        isDbInstanceStabilized(proxyInvocation, model, context))
                 .handleError((request, exception, client, model, context) -> handleException(
                         ProgressEvent.progress(model, context),
                         exception
@@ -118,13 +135,13 @@ public class CreateHandler extends BaseHandlerStd {
                 progress.getResourceModel(),
                 progress.getCallbackContext()
         ).translateToServiceRequest(Translator::restoreDbInstanceFromSnapshotRequest)
-                .backoffDelay(config.getBackoff())
+                .backoffDelay(getBackoffDelay(progress.getCallbackContext()))
                 .makeServiceCall((restoreRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                         restoreRequest,
                         proxyInvocation.client()::restoreDBInstanceFromDBSnapshot
                 ))
                 .stabilize((request, response, proxyInvocation, model, context) ->
-                        isDbInstanceStabilized(proxyInvocation, model))
+                        isDbInstanceStabilized(proxyInvocation, model, context))
                 .handleError((request, exception, client, model, context) -> handleException(
                         ProgressEvent.progress(model, context),
                         exception
@@ -143,13 +160,13 @@ public class CreateHandler extends BaseHandlerStd {
                 progress.getResourceModel(),
                 progress.getCallbackContext()
         ).translateToServiceRequest(Translator::createDbInstanceReadReplicaRequest)
-                .backoffDelay(config.getBackoff())
+                .backoffDelay(getBackoffDelay(progress.getCallbackContext()))
                 .makeServiceCall((createRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                         createRequest,
                         proxyInvocation.client()::createDBInstanceReadReplica
                 ))
                 .stabilize((request, response, proxyInvocation, model, context) ->
-                        isDbInstanceStabilized(proxyInvocation, model))
+                        isDbInstanceStabilized(proxyInvocation, model, context))
                 .handleError((request, exception, client, model, context) -> handleException(
                         ProgressEvent.progress(model, context),
                         exception
@@ -164,47 +181,21 @@ public class CreateHandler extends BaseHandlerStd {
             final ResourceModel desiredModel
     ) {
         return proxy.initiate("rds::modify-after-create-db-instance", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                .translateToServiceRequest(resourceModel -> Translator.modifyDbInstanceRequest(null, desiredModel, false))
-                .backoffDelay(config.getBackoff())
-                .makeServiceCall((modifyRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
-                        modifyRequest,
-                        proxyInvocation.client()::modifyDBInstance
-                ))
-                .stabilize((request, response, proxyInvocation, model, context) -> withProbing(
-                        context,
-                        "modify-after-create-db-instance-available",
-                        3,
-                        () -> isDbInstanceStabilized(proxyInvocation, model)
-                ))
+                .translateToServiceRequest(resourceModel -> Translator.modifyDbInstanceAfterCreateRequest(desiredModel))
+                .backoffDelay(getBackoffDelay(progress.getCallbackContext()))
+                .makeServiceCall((modifyRequest, proxyInvocation) -> {
+                    progress.getCallbackContext().invalidateDbInstanceSnapshot();
+                    return proxyInvocation.injectCredentialsAndInvokeV2(
+                            modifyRequest,
+                            proxyInvocation.client()::modifyDBInstance
+                    );
+                })
+                .stabilize((request, response, proxyInvocation, model, context) ->
+                        isDbInstanceModificationApplied(proxyInvocation, request, model, context, "modify-after-create-db-instance-available"))
                 .handleError((request, exception, client, model, context) -> handleException(
                         ProgressEvent.progress(model, context),
                         exception
                 ))
                 .progress();
     }
-
-    private boolean shouldReboot(final ResourceModel model) {
-        return StringUtils.hasValue(model.getDBParameterGroupName());
-    }
-
-    private boolean shouldUpdateAfterCreate(final ResourceModel model) {
-        return (isReadReplica(model) || isRestoreFromSnapshot(model) || isCertificateAuthorityApplied(model)) &&
-                (
-                        !CollectionUtils.isNullOrEmpty(model.getDBSecurityGroups()) ||
-                                StringUtils.hasValue(model.getAllocatedStorage()) ||
-                                StringUtils.hasValue(model.getCACertificateIdentifier()) ||
-                                StringUtils.hasValue(model.getDBParameterGroupName()) ||
-                                StringUtils.hasValue(model.getEngineVersion()) ||
-                                StringUtils.hasValue(model.getMasterUserPassword()) ||
-                                StringUtils.hasValue(model.getPreferredBackupWindow()) ||
-                                StringUtils.hasValue(model.getPreferredMaintenanceWindow()) ||
-                                Optional.ofNullable(model.getBackupRetentionPeriod()).orElse(0) > 0 ||
-                                Optional.ofNullable(model.getIops()).orElse(0) > 0 ||
-                                Optional.ofNullable(model.getMaxAllocatedStorage()).orElse(0) > 0
-                );
-    }
-
-    private boolean isCertificateAuthorityApplied(final ResourceModel model) {
-        return StringUtils.hasValue(model.getCACertificateIdentifier());
-    }
 }
@@ -1,17 +1,78 @@
 package software.amazon.rds.dbinstance;
 
+import java.util.Arrays;
+import java.util.Optional;
+
 import software.amazon.awssdk.utils.StringUtils;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
 
 public enum DBInstanceStatus {
     Available("available"),
+    BackingUp("backing-up"),
+    ConfiguringEnhancedMonitoring("configuring-enhanced-monitoring"),
+    ConfiguringIamDatabaseAuth("configuring-iam-database-auth"),
+    ConfiguringLogExports("configuring-log-exports"),
+    ConvertingToVpc("converting-to-vpc"),
     Creating("creating"),
     Deleting("deleting"),
-    Failed("failed");
+    Failed("failed", Kind.Terminal, HandlerErrorCode.GeneralServiceException),
+    InaccessibleEncryptionCredentials("inaccessible-encryption-credentials", Kind.Terminal, HandlerErrorCode.AccessDenied),
+    InaccessibleEncryptionCredentialsRecoverable("inaccessible-encryption-credentials-recoverable", Kind.Recoverable, null),
+    IncompatibleCredentials("incompatible-credentials", Kind.Terminal, HandlerErrorCode.InvalidCredentials),
+    IncompatibleNetwork("incompatible-network", Kind.Terminal, HandlerErrorCode.InvalidRequest),
+    IncompatibleOptionGroup("incompatible-option-group", Kind.Terminal, HandlerErrorCode.InvalidRequest),
+    IncompatibleParameters("incompatible-parameters", Kind.Terminal, HandlerErrorCode.InvalidRequest),
+    IncompatibleRestore("incompatible-restore", Kind.Terminal, HandlerErrorCode.InvalidRequest),
+    Maintenance("maintenance"),
+    Modifying("modifying"),
+    MovingToVpc("moving-to-vpc"),
+    Rebooting("rebooting"),
+    Renaming("renaming"),
+    ResettingMasterCredentials("resetting-master-credentials"),
+    Starting("starting"),
+    Stopping("stopping"),
+    StorageFull("storage-full", Kind.Terminal, HandlerErrorCode.ServiceLimitExceeded),
+    StorageOptimization("storage-optimization"),
+    Upgrading("upgrading");
+
+    // Terminal statuses require an intervention: the instance will never become available on its own.
+    // Recoverable statuses might resolve without an intervention, so the stabilization keeps polling.
+    public enum Kind {
+        Transitional,
+        Recoverable,
+        Terminal
+    }
 
     private String value;
+    private Kind kind;
+    private HandlerErrorCode errorCode;
 
     DBInstanceStatus(final String value) {
+        this(value, Kind.Transitional, null);
+    }
+
+    DBInstanceStatus(final String value, final Kind kind, final HandlerErrorCode errorCode) {
         this.value = value;
+        this.kind = kind;
+        this.errorCode = errorCode;
+    }
+
+    public static Optional<DBInstanceStatus> fromString(final String status) {
+        return Arrays.stream(values())
+                .filter(s -> s.equalsString(status))
+                .findFirst();
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public boolean isTerminal() {
+        return kind == Kind.Terminal;
+    }
+
+    public HandlerErrorCode getErrorCode() {
+        return errorCode;
     }
 
     @Override
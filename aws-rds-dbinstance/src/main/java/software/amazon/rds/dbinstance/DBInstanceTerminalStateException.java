@@ -0,0 +1,16 @@
+package software.amazon.rds.dbinstance;
+
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+
+// Thrown by the stabilizers once the instance lands in a status it can not leave on its own.
+// The error code is taken from the status catalog in DBInstanceStatus.
+public class DBInstanceTerminalStateException extends BaseHandlerException {
+
+    private static final long serialVersionUID = -6243907482615398412L;
+
+    private static final String MESSAGE_FORMAT = "DBInstance %s is in a terminal state: %s.";
+
+    public DBInstanceTerminalStateException(final String dbInstanceIdentifier, final DBInstanceStatus status) {
+        super(String.format(MESSAGE_FORMAT, dbInstanceIdentifier, status), null, status.getErrorCode());
+    }
+}
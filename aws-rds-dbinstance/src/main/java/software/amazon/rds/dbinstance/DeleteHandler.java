@@ -55,7 +55,7 @@ public class DeleteHandler extends BaseHandlerStd {
 
         return proxy.initiate("rds::delete-db-instance", rdsProxyClient, request.getDesiredResourceState(), callbackContext)
                 .translateToServiceRequest(model -> Translator.deleteDbInstanceRequest(model, finalSnapshotIdentifier))
-                .backoffDelay(config.getBackoff())
+                .backoffDelay(getBackoffDelay(callbackContext))
                 .makeServiceCall((deleteRequest, proxyInvocation) -> {
                     if (callbackContext.isDeleted()) {
                         return callbackContext.response("rds::delete-db-instance");
@@ -67,7 +67,7 @@ public class DeleteHandler extends BaseHandlerStd {
                     callbackContext.setDeleted(true);
                     return response;
                 })
-                .stabilize((deleteRequest, deleteResponse, proxyInvocation, model, context) -> isDbInstanceDeleted(proxyInvocation, model))
+                .stabilize((deleteRequest, deleteResponse, proxyInvocation, model, context) -> isDbInstanceDeleted(proxyInvocation, model, context))
                 .handleError((deleteRequest, exception, client, model, context) -> handleException(
                         ProgressEvent.progress(model, context),
                         exception
@@ -1,12 +1,50 @@
 package software.amazon.rds.dbinstance;
 
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.ec2.Ec2Client;
 import software.amazon.cloudformation.LambdaWrapper;
 
 public class Ec2ClientBuilder {
-    public static Ec2Client getClient() {
-        return Ec2Client.builder()
+
+    private final static int MAX_RETRIES = 5;
+    private final static Duration API_CALL_ATTEMPT_TIMEOUT = Duration.ofSeconds(30);
+    private final static Duration API_CALL_TIMEOUT = Duration.ofMinutes(2);
+
+    // Used for the requests that come without a region: the client falls back to the default region provider chain.
+    private final static String DEFAULT_REGION_KEY = "";
+
+    private static final RetryPolicy RETRY_POLICY = RetryPolicy.builder()
+            .numRetries(MAX_RETRIES)
+            .retryCondition(RetryCondition.defaultRetryCondition())
+            .build();
+
+    private static final ClientOverrideConfiguration OVERRIDE_CONFIGURATION = ClientOverrideConfiguration.builder()
+            .apiCallAttemptTimeout(API_CALL_ATTEMPT_TIMEOUT)
+            .apiCallTimeout(API_CALL_TIMEOUT)
+            .retryPolicy(RETRY_POLICY)
+            .build();
+
+    // Only a few update flows talk to EC2: a client is built on the first use in a region and reused afterwards.
+    private static final ConcurrentMap<String, Ec2Client> CLIENTS = new ConcurrentHashMap<>();
+
+    public static Ec2Client getClient(final String region) {
+        return CLIENTS.computeIfAbsent(region == null ? DEFAULT_REGION_KEY : region, Ec2ClientBuilder::buildClient);
+    }
+
+    private static Ec2Client buildClient(final String region) {
+        final software.amazon.awssdk.services.ec2.Ec2ClientBuilder builder = Ec2Client.builder()
                 .httpClient(LambdaWrapper.HTTP_CLIENT)
-                .build();
+                .overrideConfiguration(OVERRIDE_CONFIGURATION);
+        if (!DEFAULT_REGION_KEY.equals(region)) {
+            builder.region(Region.of(region));
+        }
+        return builder.build();
     }
 }
@@ -0,0 +1,79 @@
+package software.amazon.rds.dbinstance;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DBEngineVersion;
+import software.amazon.awssdk.services.rds.model.DescribeDbEngineVersionsResponse;
+import software.amazon.awssdk.utils.StringUtils;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.rds.dbinstance.util.TtlCache;
+
+// Maps (region, engine, engine version) to the DB parameter group family the version belongs to.
+// The index is filled lazily: a miss pages through DescribeDBEngineVersions and records every version it returns.
+public class EngineVersionFamilyIndex {
+
+    @lombok.Value
+    static class Key {
+        private String region;
+        private String engine;
+        private String engineVersion;
+    }
+
+    private final TtlCache<Key, String> families;
+
+    public EngineVersionFamilyIndex(final Duration ttl, final int maxSize) {
+        this.families = new TtlCache<>(ttl, maxSize);
+    }
+
+    public Optional<String> getFamily(
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final String region,
+            final String engine,
+            final String engineVersion
+    ) {
+        return Optional.ofNullable(families.computeIfAbsent(
+                new Key(region, engine, engineVersion),
+                key -> loadFamily(rdsProxyClient, key)
+        ));
+    }
+
+    // A parameter group is compatible with an engine version if both belong to the same family.
+    // An unknown engine version is never compatible.
+    public boolean isCompatible(
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final String region,
+            final String engine,
+            final String engineVersion,
+            final String dbParameterGroupFamily
+    ) {
+        return getFamily(rdsProxyClient, region, engine, engineVersion)
+                .map(family -> family.equals(dbParameterGroupFamily))
+                .orElse(false);
+    }
+
+    private String loadFamily(final ProxyClient<RdsClient> rdsProxyClient, final Key key) {
+        String family = null;
+        String marker = null;
+        do {
+            final DescribeDbEngineVersionsResponse response = rdsProxyClient.injectCredentialsAndInvokeV2(
+                    Translator.describeDbEngineVersionsRequest(key.getEngine(), key.getEngineVersion(), marker),
+                    rdsProxyClient.client()::describeDBEngineVersions
+            );
+            for (final DBEngineVersion dbEngineVersion : response.dbEngineVersions()) {
+                if (family == null) {
+                    family = dbEngineVersion.dbParameterGroupFamily();
+                }
+                if (StringUtils.isNotBlank(dbEngineVersion.engineVersion()) && dbEngineVersion.dbParameterGroupFamily() != null) {
+                    families.put(
+                            new Key(key.getRegion(), dbEngineVersion.engine(), dbEngineVersion.engineVersion()),
+                            dbEngineVersion.dbParameterGroupFamily()
+                    );
+                }
+            }
+            marker = response.marker();
+        } while (StringUtils.isNotBlank(marker));
+        return family;
+    }
+}
@@ -5,22 +5,47 @@ import java.time.Duration;
 import lombok.AccessLevel;
 import lombok.Data;
 import lombok.Setter;
-import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.cloudformation.proxy.Delay;
+import software.amazon.rds.dbinstance.util.TtlCache;
 
 @Data
 public class HandlerConfig {
 
     public static class HandlerConfigBuilder {
         private Boolean probingEnabled;
-        private Constant backoff;
+        private PollingStrategy pollingStrategy;
+        private TtlCache<DefaultSecurityGroupKey, String> defaultSecurityGroupCache;
+        private EngineVersionFamilyIndex engineVersionFamilyIndex;
+        private OrderableOptionsIndex orderableOptionsIndex;
 
         public HandlerConfigBuilder probingEnabled(final Boolean samplingEnabled) {
             this.probingEnabled = samplingEnabled;
             return this;
         }
 
-        public HandlerConfigBuilder backoff(final Constant backoff) {
-            this.backoff = backoff;
+        // A status-agnostic backoff: the same delay sequence regardless of the observed status.
+        public HandlerConfigBuilder backoff(final Delay backoff) {
+            this.pollingStrategy = (statusSupplier, state) -> backoff;
+            return this;
+        }
+
+        public HandlerConfigBuilder pollingStrategy(final PollingStrategy pollingStrategy) {
+            this.pollingStrategy = pollingStrategy;
+            return this;
+        }
+
+        public HandlerConfigBuilder defaultSecurityGroupCache(final TtlCache<DefaultSecurityGroupKey, String> defaultSecurityGroupCache) {
+            this.defaultSecurityGroupCache = defaultSecurityGroupCache;
+            return this;
+        }
+
+        public HandlerConfigBuilder engineVersionFamilyIndex(final EngineVersionFamilyIndex engineVersionFamilyIndex) {
+            this.engineVersionFamilyIndex = engineVersionFamilyIndex;
+            return this;
+        }
+
+        public HandlerConfigBuilder orderableOptionsIndex(final OrderableOptionsIndex orderableOptionsIndex) {
+            this.orderableOptionsIndex = orderableOptionsIndex;
             return this;
         }
 
@@ -29,13 +54,29 @@ public class HandlerConfig {
             if (this.probingEnabled != null) {
                 handlerConfig.probingEnabled = this.probingEnabled;
             }
-            if (this.backoff != null) {
-                handlerConfig.backoff = this.backoff;
+            if (this.pollingStrategy != null) {
+                handlerConfig.pollingStrategy = this.pollingStrategy;
+            }
+            if (this.defaultSecurityGroupCache != null) {
+                handlerConfig.defaultSecurityGroupCache = this.defaultSecurityGroupCache;
+            }
+            if (this.engineVersionFamilyIndex != null) {
+                handlerConfig.engineVersionFamilyIndex = this.engineVersionFamilyIndex;
+            }
+            if (this.orderableOptionsIndex != null) {
+                handlerConfig.orderableOptionsIndex = this.orderableOptionsIndex;
             }
             return handlerConfig;
         }
     }
 
+    @lombok.Value
+    public static class DefaultSecurityGroupKey {
+        private String awsAccountId;
+        private String region;
+        private String vpcId;
+    }
+
     public static HandlerConfigBuilder builder() {
         return new HandlerConfigBuilder();
     }
@@ -44,8 +85,60 @@ public class HandlerConfig {
     private boolean probingEnabled = true;
 
     @Setter(AccessLevel.NONE)
-    private Constant backoff = Constant.of()
-            .delay(Duration.ofSeconds(30))
+    private PollingStrategy pollingStrategy = StatusAwarePollingStrategy.builder()
+            // Quick transitions: poll often to detect completion early.
+            .schedule(StatusAwarePollingStrategy.Schedule.builder()
+                            .initialDelay(Duration.ofSeconds(5))
+                            .multiplier(1.5)
+                            .maxDelay(Duration.ofSeconds(30))
+                            .build(),
+                    DBInstanceStatus.ConfiguringEnhancedMonitoring,
+                    DBInstanceStatus.ConfiguringIamDatabaseAuth,
+                    DBInstanceStatus.ConfiguringLogExports,
+                    DBInstanceStatus.Rebooting,
+                    DBInstanceStatus.Renaming,
+                    DBInstanceStatus.ResettingMasterCredentials,
+                    DBInstanceStatus.Starting,
+                    DBInstanceStatus.Stopping)
+            // Long-running transitions: back off geometrically.
+            .schedule(StatusAwarePollingStrategy.Schedule.builder()
+                            .initialDelay(Duration.ofSeconds(30))
+                            .multiplier(1.5)
+                            .maxDelay(Duration.ofMinutes(2))
+                            .build(),
+                    DBInstanceStatus.BackingUp,
+                    DBInstanceStatus.ConvertingToVpc,
+                    DBInstanceStatus.Creating,
+                    DBInstanceStatus.Deleting,
+                    DBInstanceStatus.Maintenance,
+                    DBInstanceStatus.Modifying,
+                    DBInstanceStatus.MovingToVpc,
+                    DBInstanceStatus.Upgrading)
+            // Storage conversions might take hours.
+            .schedule(StatusAwarePollingStrategy.Schedule.builder()
+                            .initialDelay(Duration.ofMinutes(1))
+                            .multiplier(2.0)
+                            .maxDelay(Duration.ofMinutes(5))
+                            .build(),
+                    DBInstanceStatus.StorageOptimization)
+            // Nothing observed yet or an instance that has not left the "available" status yet.
+            .defaultSchedule(StatusAwarePollingStrategy.Schedule.builder()
+                    .initialDelay(Duration.ofSeconds(10))
+                    .multiplier(1.5)
+                    .maxDelay(Duration.ofSeconds(30))
+                    .build())
+            .jitter(0.1)
             .timeout(Duration.ofMinutes(60))
             .build();
+
+    // Handlers, and so their configs, live as long as the container.
+    // A default VPC security group ID practically never changes, so it is safe to keep it for an hour.
+    @Setter(AccessLevel.NONE)
+    private TtlCache<DefaultSecurityGroupKey, String> defaultSecurityGroupCache = new TtlCache<>(Duration.ofHours(1), 1000);
+
+    @Setter(AccessLevel.NONE)
+    private EngineVersionFamilyIndex engineVersionFamilyIndex = new EngineVersionFamilyIndex(Duration.ofHours(6), 1000);
+
+    @Setter(AccessLevel.NONE)
+    private OrderableOptionsIndex orderableOptionsIndex = new OrderableOptionsIndex(Duration.ofHours(6), 200);
 }
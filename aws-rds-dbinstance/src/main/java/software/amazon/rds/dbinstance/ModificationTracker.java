@@ -0,0 +1,143 @@
+package software.amazon.rds.dbinstance;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.DBParameterGroupStatus;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.OptionGroupMembership;
+import software.amazon.awssdk.services.rds.model.PendingModifiedValues;
+import software.amazon.awssdk.services.rds.model.VpcSecurityGroupMembership;
+import software.amazon.awssdk.utils.StringUtils;
+
+// Tells whether a submitted ModifyDBInstance change set has been applied by comparing it with
+// the instance pending modified values and the live attribute values.
+public final class ModificationTracker {
+
+    private static final String PARAMETER_APPLY_STATUS_APPLYING = "applying";
+    private static final String VPC_SECURITY_GROUP_STATUS_ACTIVE = "active";
+    private static final List<String> OPTION_GROUP_SETTLED_STATUSES = Arrays.asList("in-sync", RebootPlanner.PENDING_REBOOT_STATUS);
+
+    // The attributes that are applied asynchronously without leaving any trace in the describe output.
+    // A change set containing any of them can not be tracked and falls back to probing.
+    private static final List<Function<ModifyDbInstanceRequest, Object>> UNOBSERVABLE_ATTRIBUTES = Arrays.asList(
+            ModifyDbInstanceRequest::domain,
+            ModifyDbInstanceRequest::domainIAMRoleName,
+            ModifyDbInstanceRequest::enablePerformanceInsights,
+            ModifyDbInstanceRequest::monitoringInterval,
+            ModifyDbInstanceRequest::monitoringRoleArn,
+            ModifyDbInstanceRequest::performanceInsightsKMSKeyId,
+            ModifyDbInstanceRequest::tdeCredentialArn,
+            ModifyDbInstanceRequest::tdeCredentialPassword,
+            ModifyDbInstanceRequest::useDefaultProcessorFeatures
+    );
+
+    private ModificationTracker() {
+    }
+
+    public static boolean isObservable(final ModifyDbInstanceRequest modifyRequest) {
+        return !modifyRequest.hasDbSecurityGroups() &&
+                !modifyRequest.hasProcessorFeatures() &&
+                UNOBSERVABLE_ATTRIBUTES.stream().allMatch(getter -> getter.apply(modifyRequest) == null);
+    }
+
+    // Synchronously applied attributes (maintenance windows, deletion protection and alike) are in place
+    // by the time ModifyDBInstance returns, so they are not checked. CACertificateIdentifier is not checked
+    // either: it might stay pending until the reboot planner restarts the instance.
+    public static boolean isApplied(final ModifyDbInstanceRequest modifyRequest, final DBInstance dbInstance) {
+        if (!DBInstanceStatus.Available.equalsString(dbInstance.dbInstanceStatus())) {
+            return false;
+        }
+        final PendingModifiedValues pending = Optional.ofNullable(dbInstance.pendingModifiedValues())
+                .orElse(PendingModifiedValues.builder().build());
+
+        return isNotPending(modifyRequest.allocatedStorage(), pending.allocatedStorage()) &&
+                isNotPending(modifyRequest.backupRetentionPeriod(), pending.backupRetentionPeriod()) &&
+                isNotPending(modifyRequest.dbInstanceClass(), pending.dbInstanceClass()) &&
+                isNotPending(modifyRequest.dbPortNumber(), pending.port()) &&
+                isNotPending(modifyRequest.dbSubnetGroupName(), pending.dbSubnetGroupName()) &&
+                isNotPending(modifyRequest.enableIAMDatabaseAuthentication(), pending.iamDatabaseAuthenticationEnabled()) &&
+                isNotPending(modifyRequest.engineVersion(), pending.engineVersion()) &&
+                isNotPending(modifyRequest.iops(), pending.iops()) &&
+                isNotPending(modifyRequest.licenseModel(), pending.licenseModel()) &&
+                isNotPending(modifyRequest.masterUserPassword(), pending.masterUserPassword()) &&
+                isNotPending(modifyRequest.multiAZ(), pending.multiAZ()) &&
+                isNotPending(modifyRequest.storageType(), pending.storageType()) &&
+                isNotPending(modifyRequest.cloudwatchLogsExportConfiguration(), pending.pendingCloudwatchLogsExports()) &&
+                isStorageApplied(modifyRequest.allocatedStorage(), dbInstance.allocatedStorage()) &&
+                isLive(modifyRequest.backupRetentionPeriod(), dbInstance.backupRetentionPeriod()) &&
+                isLive(modifyRequest.dbInstanceClass(), dbInstance.dbInstanceClass()) &&
+                isLive(modifyRequest.dbPortNumber(), getPort(dbInstance)) &&
+                isEngineVersionApplied(modifyRequest.engineVersion(), dbInstance.engineVersion()) &&
+                isLive(modifyRequest.iops(), dbInstance.iops()) &&
+                isLive(modifyRequest.storageType(), dbInstance.storageType()) &&
+                isParameterGroupApplied(modifyRequest.dbParameterGroupName(), dbInstance) &&
+                isOptionGroupApplied(modifyRequest.optionGroupName(), dbInstance) &&
+                areVpcSecurityGroupsApplied(modifyRequest, dbInstance);
+    }
+
+    private static boolean isNotPending(final Object requested, final Object pending) {
+        return requested == null || pending == null;
+    }
+
+    private static <T> boolean isLive(final T requested, final T live) {
+        return requested == null || requested.equals(live);
+    }
+
+    // DBInstance.dbInstancePort is only set for Aurora instances, the others expose the port in the endpoint.
+    private static Integer getPort(final DBInstance dbInstance) {
+        final Integer port = dbInstance.dbInstancePort();
+        if ((port == null || port == 0) && dbInstance.endpoint() != null) {
+            return dbInstance.endpoint().port();
+        }
+        return port;
+    }
+
+    // Storage autoscaling might have grown the instance beyond the requested size already.
+    private static boolean isStorageApplied(final Integer requested, final Integer live) {
+        return requested == null || (live != null && live >= requested);
+    }
+
+    // A major version (e.g. "8.0") resolves to the default minor version of it (e.g. "8.0.28").
+    private static boolean isEngineVersionApplied(final String requested, final String live) {
+        return requested == null || requested.equals(live) || (live != null && live.startsWith(requested + "."));
+    }
+
+    private static boolean isParameterGroupApplied(final String requested, final DBInstance dbInstance) {
+        if (StringUtils.isBlank(requested)) {
+            return true;
+        }
+        return emptyIfNull(dbInstance.dbParameterGroups()).stream()
+                .filter(status -> requested.equals(status.dbParameterGroupName()))
+                .map(DBParameterGroupStatus::parameterApplyStatus)
+                .anyMatch(status -> !PARAMETER_APPLY_STATUS_APPLYING.equals(status));
+    }
+
+    private static boolean isOptionGroupApplied(final String requested, final DBInstance dbInstance) {
+        if (StringUtils.isBlank(requested)) {
+            return true;
+        }
+        return emptyIfNull(dbInstance.optionGroupMemberships()).stream()
+                .filter(membership -> requested.equals(membership.optionGroupName()))
+                .map(OptionGroupMembership::status)
+                .anyMatch(OPTION_GROUP_SETTLED_STATUSES::contains);
+    }
+
+    private static boolean areVpcSecurityGroupsApplied(final ModifyDbInstanceRequest modifyRequest, final DBInstance dbInstance) {
+        if (!modifyRequest.hasVpcSecurityGroupIds()) {
+            return true;
+        }
+        return emptyIfNull(dbInstance.vpcSecurityGroups()).stream()
+                .map(VpcSecurityGroupMembership::status)
+                .allMatch(VPC_SECURITY_GROUP_STATUS_ACTIVE::equals);
+    }
+
+    private static <T> Collection<T> emptyIfNull(final Collection<T> collection) {
+        return collection == null ? Collections.emptyList() : collection;
+    }
+}
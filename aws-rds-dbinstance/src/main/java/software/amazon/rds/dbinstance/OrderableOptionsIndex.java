@@ -0,0 +1,134 @@
+package software.amazon.rds.dbinstance;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.AvailabilityZone;
+import software.amazon.awssdk.services.rds.model.DescribeOrderableDbInstanceOptionsResponse;
+import software.amazon.awssdk.services.rds.model.OrderableDBInstanceOption;
+import software.amazon.awssdk.utils.StringUtils;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.rds.dbinstance.util.TtlCache;
+
+// A compact view of DescribeOrderableDBInstanceOptions per (region, engine, engine version),
+// grouped by DB instance class. It is used to reject impossible instance configurations before any mutating call.
+public class OrderableOptionsIndex {
+
+    protected static final int DESCRIBE_MAX_RECORDS = 1000;
+
+    protected static final String INSTANCE_CLASS_NOT_AVAILABLE = "DBInstanceClass %s is not available for %s %s.";
+    protected static final String STORAGE_TYPE_NOT_SUPPORTED = "StorageType %s is not supported by DBInstanceClass %s for %s %s.";
+    protected static final String IOPS_NOT_SUPPORTED = "Iops %d are not supported by DBInstanceClass %s with the requested storage type for %s %s.";
+    protected static final String AVAILABILITY_ZONE_NOT_SUPPORTED = "DBInstanceClass %s with the requested storage is not available in %s for %s %s.";
+
+    @lombok.Value
+    static class Key {
+        private String region;
+        private String engine;
+        private String engineVersion;
+    }
+
+    @lombok.Value
+    static class Option {
+        private String storageType;
+        private boolean supportsIops;
+        private Integer minIops;
+        private Integer maxIops;
+        private Set<String> availabilityZones;
+    }
+
+    private final TtlCache<Key, Map<String, List<Option>>> options;
+
+    public OrderableOptionsIndex(final Duration ttl, final int maxSize) {
+        this.options = new TtlCache<>(ttl, maxSize);
+    }
+
+    // Returns a description of the first violated constraint.
+    // An engine version the index knows nothing about is left for RDS to judge.
+    public Optional<String> validate(
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final String region,
+            final ResourceModel model
+    ) {
+        final String engine = model.getEngine();
+        final String engineVersion = model.getEngineVersion();
+        final String dbInstanceClass = model.getDBInstanceClass();
+        if (StringUtils.isBlank(engine) || StringUtils.isBlank(engineVersion) || StringUtils.isBlank(dbInstanceClass)) {
+            return Optional.empty();
+        }
+
+        final Map<String, List<Option>> classOptions = options.computeIfAbsent(
+                new Key(region, engine, engineVersion),
+                key -> loadOptions(rdsProxyClient, key)
+        );
+        if (classOptions.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Option> candidates = classOptions.getOrDefault(dbInstanceClass, Collections.emptyList());
+        if (candidates.isEmpty()) {
+            return Optional.of(String.format(INSTANCE_CLASS_NOT_AVAILABLE, dbInstanceClass, engine, engineVersion));
+        }
+
+        if (StringUtils.isNotBlank(model.getStorageType())) {
+            candidates = candidates.stream()
+                    .filter(option -> model.getStorageType().equalsIgnoreCase(option.getStorageType()))
+                    .collect(Collectors.toList());
+            if (candidates.isEmpty()) {
+                return Optional.of(String.format(STORAGE_TYPE_NOT_SUPPORTED, model.getStorageType(), dbInstanceClass, engine, engineVersion));
+            }
+        }
+
+        final Integer iops = model.getIops();
+        if (iops != null) {
+            candidates = candidates.stream()
+                    .filter(Option::isSupportsIops)
+                    .filter(option -> option.getMinIops() == null || iops >= option.getMinIops())
+                    .filter(option -> option.getMaxIops() == null || iops <= option.getMaxIops())
+                    .collect(Collectors.toList());
+            if (candidates.isEmpty()) {
+                return Optional.of(String.format(IOPS_NOT_SUPPORTED, iops, dbInstanceClass, engine, engineVersion));
+            }
+        }
+
+        final String availabilityZone = model.getAvailabilityZone();
+        if (StringUtils.isNotBlank(availabilityZone) &&
+                candidates.stream().noneMatch(option -> option.getAvailabilityZones().contains(availabilityZone))) {
+            return Optional.of(String.format(AVAILABILITY_ZONE_NOT_SUPPORTED, dbInstanceClass, availabilityZone, engine, engineVersion));
+        }
+
+        return Optional.empty();
+    }
+
+    private Map<String, List<Option>> loadOptions(final ProxyClient<RdsClient> rdsProxyClient, final Key key) {
+        final Map<String, List<Option>> result = new HashMap<>();
+        String marker = null;
+        do {
+            final DescribeOrderableDbInstanceOptionsResponse response = rdsProxyClient.injectCredentialsAndInvokeV2(
+                    Translator.describeOrderableDbInstanceOptionsRequest(key.getEngine(), key.getEngineVersion(), DESCRIBE_MAX_RECORDS, marker),
+                    rdsProxyClient.client()::describeOrderableDBInstanceOptions
+            );
+            for (final OrderableDBInstanceOption option : response.orderableDBInstanceOptions()) {
+                result.computeIfAbsent(option.dbInstanceClass(), k -> new ArrayList<>()).add(new Option(
+                        option.storageType(),
+                        Boolean.TRUE.equals(option.supportsIops()),
+                        option.minIopsPerDbInstance(),
+                        option.maxIopsPerDbInstance(),
+                        option.availabilityZones().stream()
+                                .map(AvailabilityZone::name)
+                                .collect(Collectors.toSet())
+                ));
+            }
+            marker = response.marker();
+        } while (StringUtils.isNotBlank(marker));
+        return result;
+    }
+}
@@ -0,0 +1,20 @@
+package software.amazon.rds.dbinstance;
+
+// The progress of the status-aware polling of a call chain. It is kept in the callback context so that
+// the elapsed time and the backoff progression survive the handler re-invocations between the polls.
+@lombok.Data
+public class PollingState {
+    // The latest attempt number handed over by the proxy. Attempts only grow within a call chain,
+    // so a number that is not greater than this one means a new call chain started polling.
+    private int attempt;
+    private long elapsedMillis;
+    private String lastStatus;
+    private int streak;
+
+    public void reset() {
+        this.attempt = 0;
+        this.elapsedMillis = 0L;
+        this.lastStatus = null;
+        this.streak = 0;
+    }
+}
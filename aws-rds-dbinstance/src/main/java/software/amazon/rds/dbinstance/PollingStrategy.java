@@ -0,0 +1,13 @@
+package software.amazon.rds.dbinstance;
+
+import java.util.function.Supplier;
+
+import software.amazon.cloudformation.proxy.Delay;
+
+@FunctionalInterface
+public interface PollingStrategy {
+    // Creates a backoff delay for a single call chain. The status supplier returns the latest observed
+    // DB instance status (or null if nothing has been observed yet). The delay is rebuilt on every handler
+    // invocation, so anything it has to remember between the polls goes to the polling state.
+    Delay newDelay(Supplier<String> statusSupplier, PollingState state);
+}
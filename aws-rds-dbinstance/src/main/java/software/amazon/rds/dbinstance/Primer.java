@@ -0,0 +1,32 @@
+package software.amazon.rds.dbinstance;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.Tag;
+import software.amazon.cloudformation.resource.Serializer;
+
+// Loads the classes a first Read invocation needs while the Lambda container initializes: the model and callback
+// context serialization, the DescribeDBInstances request and the DBInstance translation. No request leaves the
+// container.
+final class Primer {
+
+    private static final String PRIMING_IDENTIFIER = "priming";
+
+    private Primer() {
+    }
+
+    static void prime() throws IOException {
+        final ResourceModel model = ResourceModel.builder().dBInstanceIdentifier(PRIMING_IDENTIFIER).build();
+
+        final Serializer serializer = new Serializer();
+        serializer.deserialize(serializer.serialize(model), new TypeReference<ResourceModel>() {});
+        serializer.deserialize(serializer.serialize(new CallbackContext()), new TypeReference<CallbackContext>() {});
+
+        Translator.describeDbInstancesRequest(model);
+        Translator.translateDbInstanceFromSdk(DBInstance.builder().dbInstanceIdentifier(PRIMING_IDENTIFIER).build());
+        Translator.translateTagsFromSdk(Collections.singletonList(Tag.builder().key(PRIMING_IDENTIFIER).value(PRIMING_IDENTIFIER).build()));
+    }
+}
@@ -4,6 +4,7 @@ package software.amazon.rds.dbinstance;
 import software.amazon.awssdk.services.ec2.Ec2Client;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -30,10 +31,10 @@ public class ReadHandler extends BaseHandlerStd {
     ) {
         return proxy.initiate("rds::describe-db-instance", rdsProxyClient, request.getDesiredResourceState(), callbackContext)
                 .translateToServiceRequest(Translator::describeDbInstancesRequest)
-                .makeServiceCall((describeRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
-                        describeRequest,
-                        proxyInvocation.client()::describeDBInstances
-                ))
+                .makeServiceCall((describeRequest, proxyInvocation) -> DescribeDbInstancesResponse.builder()
+                        .dbInstances(fetchDBInstance(proxyInvocation, request.getDesiredResourceState(), callbackContext))
+                        .build()
+                )
                 .handleError((describeRequest, exception, client, model, context) -> handleException(
                         ProgressEvent.progress(model, context),
                         exception
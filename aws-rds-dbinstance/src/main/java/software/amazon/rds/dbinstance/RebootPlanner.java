@@ -0,0 +1,60 @@
+package software.amazon.rds.dbinstance;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.DBParameterGroupStatus;
+import software.amazon.awssdk.services.rds.model.OptionGroupMembership;
+import software.amazon.awssdk.services.rds.model.PendingModifiedValues;
+import software.amazon.awssdk.utils.StringUtils;
+
+// Decides whether a DB instance has to be rebooted for the already applied modifications to take effect.
+// The decision is based on the DBInstance snapshot alone and does not issue any API calls.
+public final class RebootPlanner {
+
+    public static final String PENDING_REBOOT_STATUS = "pending-reboot";
+
+    private RebootPlanner() {
+    }
+
+    public static boolean isRebootRequired(final DBInstance dbInstance) {
+        return !getRebootReasons(dbInstance).isEmpty();
+    }
+
+    public static List<String> getRebootReasons(final DBInstance dbInstance) {
+        final List<String> reasons = new ArrayList<>();
+
+        // Static parameters of any attached parameter group are only picked up on reboot.
+        for (final DBParameterGroupStatus status : emptyIfNull(dbInstance.dbParameterGroups())) {
+            if (PENDING_REBOOT_STATUS.equals(status.parameterApplyStatus())) {
+                reasons.add(String.format("parameter group %s is %s", status.dbParameterGroupName(), PENDING_REBOOT_STATUS));
+            }
+        }
+
+        // Some persistent options can only be installed or removed by restarting the instance.
+        for (final OptionGroupMembership membership : emptyIfNull(dbInstance.optionGroupMemberships())) {
+            if (PENDING_REBOOT_STATUS.equals(membership.status())) {
+                reasons.add(String.format("option group %s is %s", membership.optionGroupName(), PENDING_REBOOT_STATUS));
+            }
+        }
+
+        // A new CA certificate stays pending until the instance restarts. The rest of the pending values
+        // are applied by RDS on its own (or in the maintenance window) and a reboot would not speed them up.
+        final String pendingCaCertificateIdentifier = Optional.ofNullable(dbInstance.pendingModifiedValues())
+                .map(PendingModifiedValues::caCertificateIdentifier)
+                .orElse(null);
+        if (StringUtils.isNotBlank(pendingCaCertificateIdentifier)) {
+            reasons.add(String.format("CA certificate %s is pending", pendingCaCertificateIdentifier));
+        }
+
+        return reasons;
+    }
+
+    private static <T> Collection<T> emptyIfNull(final Collection<T> collection) {
+        return collection == null ? Collections.emptyList() : collection;
+    }
+}
@@ -0,0 +1,145 @@
+package software.amazon.rds.dbinstance;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import software.amazon.awssdk.utils.StringUtils;
+import software.amazon.cloudformation.proxy.Delay;
+
+// Picks the next polling delay from the latest observed DB instance status.
+// Every status is mapped to a schedule: the delay starts at the initial value and grows
+// geometrically for as long as the status stays the same, up to the schedule cap.
+// A status change resets the progression.
+public class StatusAwarePollingStrategy implements PollingStrategy {
+
+    private static final Duration MIN_DELAY = Duration.ofSeconds(1);
+
+    @lombok.Value
+    @lombok.Builder
+    public static class Schedule {
+        private Duration initialDelay;
+        private double multiplier;
+        private Duration maxDelay;
+
+        Duration delay(final int streak) {
+            final double millis = initialDelay.toMillis() * Math.pow(multiplier, streak);
+            return Duration.ofMillis((long) Math.min(millis, maxDelay.toMillis()));
+        }
+    }
+
+    public static class StatusAwarePollingStrategyBuilder {
+        private final Map<String, Schedule> schedules = new HashMap<>();
+        private Schedule defaultSchedule;
+        private double jitter;
+        private Duration timeout;
+
+        public StatusAwarePollingStrategyBuilder schedule(final Schedule schedule, final DBInstanceStatus... statuses) {
+            for (final DBInstanceStatus status : statuses) {
+                this.schedules.put(status.toString(), schedule);
+            }
+            return this;
+        }
+
+        public StatusAwarePollingStrategyBuilder defaultSchedule(final Schedule defaultSchedule) {
+            this.defaultSchedule = defaultSchedule;
+            return this;
+        }
+
+        public StatusAwarePollingStrategyBuilder jitter(final double jitter) {
+            this.jitter = jitter;
+            return this;
+        }
+
+        public StatusAwarePollingStrategyBuilder timeout(final Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        public StatusAwarePollingStrategy build() {
+            return new StatusAwarePollingStrategy(schedules, defaultSchedule, jitter, timeout);
+        }
+    }
+
+    public static StatusAwarePollingStrategyBuilder builder() {
+        return new StatusAwarePollingStrategyBuilder();
+    }
+
+    private final Map<String, Schedule> schedules;
+    private final Schedule defaultSchedule;
+    private final double jitter;
+    private final Duration timeout;
+
+    private StatusAwarePollingStrategy(
+            final Map<String, Schedule> schedules,
+            final Schedule defaultSchedule,
+            final double jitter,
+            final Duration timeout
+    ) {
+        this.schedules = new HashMap<>(schedules);
+        this.defaultSchedule = defaultSchedule;
+        this.jitter = jitter;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public Delay newDelay(final Supplier<String> statusSupplier, final PollingState state) {
+        return new StatusAwareDelay(statusSupplier, state);
+    }
+
+    Schedule getSchedule(final String status) {
+        return schedules.getOrDefault(status, defaultSchedule);
+    }
+
+    private Duration applyJitter(final Duration delay) {
+        if (jitter <= 0) {
+            return delay;
+        }
+        final double factor = 1.0 + ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+        return Duration.ofMillis((long) (delay.toMillis() * factor));
+    }
+
+    private class StatusAwareDelay implements Delay {
+        private final Supplier<String> statusSupplier;
+        private final PollingState state;
+
+        StatusAwareDelay(final Supplier<String> statusSupplier, final PollingState state) {
+            this.statusSupplier = statusSupplier;
+            this.state = state;
+        }
+
+        @Override
+        public Duration nextDelay(final int attempt) {
+            if (attempt <= state.getAttempt()) {
+                state.reset();
+            }
+            state.setAttempt(attempt);
+
+            final Duration elapsed = Duration.ofMillis(state.getElapsedMillis());
+            if (elapsed.compareTo(timeout) >= 0) {
+                // Duration.ZERO tells the proxy the stabilization has timed out.
+                return Duration.ZERO;
+            }
+            final String status = statusSupplier.get();
+            if (state.getLastStatus() != null && StringUtils.equals(status, state.getLastStatus())) {
+                state.setStreak(state.getStreak() + 1);
+            } else {
+                state.setStreak(0);
+            }
+            state.setLastStatus(status);
+
+            Duration delay = applyJitter(getSchedule(status).delay(state.getStreak()));
+            if (delay.compareTo(MIN_DELAY) < 0) {
+                delay = MIN_DELAY;
+            }
+            final Duration remaining = timeout.minus(elapsed);
+            if (delay.compareTo(remaining) > 0) {
+                delay = remaining;
+            }
+            state.setElapsedMillis(elapsed.plus(delay).toMillis());
+            return delay;
+        }
+    }
+}
@@ -1,17 +1,22 @@
 package software.amazon.rds.dbinstance;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.ObjectUtils;
 
 import software.amazon.awssdk.services.ec2.model.DescribeSecurityGroupsRequest;
 import software.amazon.awssdk.services.ec2.model.Filter;
@@ -26,6 +31,7 @@ import software.amazon.awssdk.services.rds.model.DeleteDbInstanceRequest;
 import software.amazon.awssdk.services.rds.model.DescribeDbEngineVersionsRequest;
 import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
 import software.amazon.awssdk.services.rds.model.DescribeDbParameterGroupsRequest;
+import software.amazon.awssdk.services.rds.model.DescribeOrderableDbInstanceOptionsRequest;
 import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
 import software.amazon.awssdk.services.rds.model.RebootDbInstanceRequest;
 import software.amazon.awssdk.services.rds.model.RemoveRoleFromDbInstanceRequest;
@@ -171,6 +177,236 @@ public class Translator {
                 .build();
     }
 
+    // A model attribute that can be carried over from one model to another.
+    private static class Attribute<T> {
+        private final Function<ResourceModel, T> getter;
+        private final BiConsumer<ResourceModel, T> setter;
+
+        Attribute(final Function<ResourceModel, T> getter, final BiConsumer<ResourceModel, T> setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        boolean isSet(final ResourceModel model) {
+            final T value = getter.apply(model);
+            if (value instanceof String) {
+                return StringUtils.isNotBlank((String) value);
+            }
+            if (value instanceof Collection) {
+                return !((Collection<?>) value).isEmpty();
+            }
+            return value != null;
+        }
+
+        void copy(final ResourceModel from, final ResourceModel to) {
+            setter.accept(to, getter.apply(from));
+        }
+    }
+
+    private static <T> Attribute<T> attribute(final Function<ResourceModel, T> getter, final BiConsumer<ResourceModel, T> setter) {
+        return new Attribute<>(getter, setter);
+    }
+
+    // The capability matrix of the create flavours: every list holds the modifiable attributes
+    // the corresponding create request is not able to apply natively. If any of them is set,
+    // it is applied by a follow-up ModifyDBInstance once the new instance is available.
+    private static final List<Attribute<?>> CREATE_DB_INSTANCE_REMAINDER = Collections.singletonList(
+            attribute(ResourceModel::getCACertificateIdentifier, ResourceModel::setCACertificateIdentifier)
+    );
+
+    private static final List<Attribute<?>> CREATE_DB_INSTANCE_READ_REPLICA_REMAINDER = Arrays.asList(
+            attribute(ResourceModel::getAllocatedStorage, ResourceModel::setAllocatedStorage),
+            attribute(ResourceModel::getBackupRetentionPeriod, ResourceModel::setBackupRetentionPeriod),
+            attribute(ResourceModel::getCACertificateIdentifier, ResourceModel::setCACertificateIdentifier),
+            attribute(ResourceModel::getCopyTagsToSnapshot, ResourceModel::setCopyTagsToSnapshot),
+            attribute(ResourceModel::getDBSecurityGroups, ResourceModel::setDBSecurityGroups),
+            attribute(ResourceModel::getEngineVersion, ResourceModel::setEngineVersion),
+            attribute(ResourceModel::getMasterUserPassword, ResourceModel::setMasterUserPassword),
+            attribute(ResourceModel::getMaxAllocatedStorage, ResourceModel::setMaxAllocatedStorage),
+            attribute(ResourceModel::getPreferredBackupWindow, ResourceModel::setPreferredBackupWindow),
+            attribute(ResourceModel::getPreferredMaintenanceWindow, ResourceModel::setPreferredMaintenanceWindow),
+            attribute(ResourceModel::getPromotionTier, ResourceModel::setPromotionTier)
+    );
+
+    private static final List<Attribute<?>> RESTORE_DB_INSTANCE_FROM_SNAPSHOT_REMAINDER = Arrays.asList(
+            attribute(ResourceModel::getAllocatedStorage, ResourceModel::setAllocatedStorage),
+            attribute(ResourceModel::getBackupRetentionPeriod, ResourceModel::setBackupRetentionPeriod),
+            attribute(ResourceModel::getCACertificateIdentifier, ResourceModel::setCACertificateIdentifier),
+            attribute(ResourceModel::getCopyTagsToSnapshot, ResourceModel::setCopyTagsToSnapshot),
+            attribute(ResourceModel::getDBSecurityGroups, ResourceModel::setDBSecurityGroups),
+            attribute(ResourceModel::getEnablePerformanceInsights, ResourceModel::setEnablePerformanceInsights),
+            attribute(ResourceModel::getEngineVersion, ResourceModel::setEngineVersion),
+            attribute(ResourceModel::getMasterUserPassword, ResourceModel::setMasterUserPassword),
+            attribute(ResourceModel::getMaxAllocatedStorage, ResourceModel::setMaxAllocatedStorage),
+            attribute(ResourceModel::getMonitoringInterval, ResourceModel::setMonitoringInterval),
+            attribute(ResourceModel::getMonitoringRoleArn, ResourceModel::setMonitoringRoleArn),
+            attribute(ResourceModel::getPerformanceInsightsKMSKeyId, ResourceModel::setPerformanceInsightsKMSKeyId),
+            attribute(ResourceModel::getPerformanceInsightsRetentionPeriod, ResourceModel::setPerformanceInsightsRetentionPeriod),
+            attribute(ResourceModel::getPreferredBackupWindow, ResourceModel::setPreferredBackupWindow),
+            attribute(ResourceModel::getPreferredMaintenanceWindow, ResourceModel::setPreferredMaintenanceWindow),
+            attribute(ResourceModel::getPromotionTier, ResourceModel::setPromotionTier)
+    );
+
+    private static List<Attribute<?>> getCreateRemainder(final ResourceModel model) {
+        if (StringUtils.isNotBlank(model.getSourceDBInstanceIdentifier())) {
+            return CREATE_DB_INSTANCE_READ_REPLICA_REMAINDER;
+        } else if (StringUtils.isNotBlank(model.getDBSnapshotIdentifier())) {
+            return RESTORE_DB_INSTANCE_FROM_SNAPSHOT_REMAINDER;
+        }
+        return CREATE_DB_INSTANCE_REMAINDER;
+    }
+
+    // The part of the desired state the create request was not able to apply.
+    public static ResourceModel translateModelRemainderAfterCreate(final ResourceModel model) {
+        final ResourceModel remainder = ResourceModel.builder()
+                .allowMajorVersionUpgrade(model.getAllowMajorVersionUpgrade())
+                .dBInstanceIdentifier(model.getDBInstanceIdentifier())
+                .build();
+        getCreateRemainder(model).stream()
+                .filter(attribute -> attribute.isSet(model))
+                .forEach(attribute -> attribute.copy(model, remainder));
+        return remainder;
+    }
+
+    public static boolean isModifyAfterCreateRequired(final ResourceModel model) {
+        return getCreateRemainder(model).stream().anyMatch(attribute -> attribute.isSet(model));
+    }
+
+    public static ModifyDbInstanceRequest modifyDbInstanceAfterCreateRequest(final ResourceModel model) {
+        final ResourceModel remainder = translateModelRemainderAfterCreate(model);
+        return modifyDbInstanceRequest(null, remainder, false).toBuilder()
+                .dbSecurityGroups(remainder.getDBSecurityGroups())
+                .build();
+    }
+
+    // The attributes this handler always sends in a ModifyDBInstance request with ApplyImmediately=true.
+    private static final List<Function<ResourceModel, Object>> IMMEDIATE_ATTRIBUTES = Arrays.asList(
+            ResourceModel::getAutoMinorVersionUpgrade,
+            ResourceModel::getBackupRetentionPeriod,
+            ResourceModel::getCACertificateIdentifier,
+            ResourceModel::getCopyTagsToSnapshot,
+            ResourceModel::getDBParameterGroupName,
+            ResourceModel::getDBSubnetGroupName,
+            ResourceModel::getDeletionProtection,
+            ResourceModel::getDomain,
+            ResourceModel::getDomainIAMRoleName,
+            ResourceModel::getEnableCloudwatchLogsExports,
+            ResourceModel::getEnableIAMDatabaseAuthentication,
+            ResourceModel::getEnablePerformanceInsights,
+            ResourceModel::getLicenseModel,
+            ResourceModel::getMasterUserPassword,
+            ResourceModel::getMaxAllocatedStorage,
+            ResourceModel::getMonitoringInterval,
+            ResourceModel::getMonitoringRoleArn,
+            ResourceModel::getOptionGroupName,
+            ResourceModel::getPerformanceInsightsKMSKeyId,
+            ResourceModel::getPerformanceInsightsRetentionPeriod,
+            ResourceModel::getPort,
+            ResourceModel::getPreferredBackupWindow,
+            ResourceModel::getPreferredMaintenanceWindow,
+            ResourceModel::getPromotionTier,
+            ResourceModel::getPubliclyAccessible,
+            ResourceModel::getTdeCredentialArn,
+            ResourceModel::getTdeCredentialPassword,
+            ResourceModel::getUseDefaultProcessorFeatures,
+            ResourceModel::getVPCSecurityGroups
+    );
+
+    // The attributes ModifyDBInstance is able to postpone until the next maintenance window.
+    // CACertificateIdentifier is deferrable too, but a pending certificate makes the reboot planner
+    // restart the instance right away, so it is always applied immediately.
+    private static final List<Function<ResourceModel, Object>> DEFERRABLE_ATTRIBUTES = Arrays.asList(
+            ResourceModel::getAllocatedStorage,
+            ResourceModel::getDBInstanceClass,
+            ResourceModel::getEngineVersion,
+            ResourceModel::getIops,
+            ResourceModel::getMultiAZ,
+            ResourceModel::getProcessorFeatures,
+            ResourceModel::getStorageType
+    );
+
+    // The attributes ModifyDBInstance is able to change in place.
+    private static final List<Function<ResourceModel, Object>> MODIFIABLE_ATTRIBUTES = Stream.concat(
+            IMMEDIATE_ATTRIBUTES.stream(),
+            DEFERRABLE_ATTRIBUTES.stream()
+    ).collect(Collectors.toList());
+
+    private static boolean isAnyModified(
+            final List<Function<ResourceModel, Object>> attributes,
+            final ResourceModel previousModel,
+            final ResourceModel desiredModel
+    ) {
+        return previousModel == null || attributes.stream()
+                .anyMatch(getter -> ObjectUtils.notEqual(getter.apply(previousModel), getter.apply(desiredModel)));
+    }
+
+    public static boolean isDbInstanceImmediatelyModified(
+            final ResourceModel previousModel,
+            final ResourceModel desiredModel
+    ) {
+        return isAnyModified(IMMEDIATE_ATTRIBUTES, previousModel, desiredModel);
+    }
+
+    // A change set can be split only if it has deferrable attributes and the deferred part does not depend
+    // on the immediate one: a major version upgrade must come together with the new parameter and option groups.
+    public static boolean canDeferDbInstanceModifications(
+            final ResourceModel previousModel,
+            final ResourceModel desiredModel
+    ) {
+        if (previousModel == null || !isAnyModified(DEFERRABLE_ATTRIBUTES, previousModel, desiredModel)) {
+            return false;
+        }
+        return Objects.equals(previousModel.getEngineVersion(), desiredModel.getEngineVersion()) || (
+                Objects.equals(previousModel.getDBParameterGroupName(), desiredModel.getDBParameterGroupName()) &&
+                        Objects.equals(previousModel.getOptionGroupName(), desiredModel.getOptionGroupName())
+        );
+    }
+
+    // The part of the change set that is applied right away.
+    public static ModifyDbInstanceRequest modifyDbInstanceImmediateRequest(
+            final ResourceModel previousModel,
+            final ResourceModel desiredModel
+    ) {
+        return modifyDbInstanceRequest(previousModel, desiredModel, false).toBuilder()
+                .allocatedStorage(null)
+                .dbInstanceClass(null)
+                .engineVersion(null)
+                .iops(null)
+                .multiAZ(null)
+                .processorFeatures((Collection<software.amazon.awssdk.services.rds.model.ProcessorFeature>) null)
+                .storageType(null)
+                .build();
+    }
+
+    // The part of the change set that is left for the next maintenance window.
+    public static ModifyDbInstanceRequest modifyDbInstanceDeferredRequest(
+            final ResourceModel previousModel,
+            final ResourceModel desiredModel
+    ) {
+        final ModifyDbInstanceRequest request = modifyDbInstanceRequest(previousModel, desiredModel, false);
+        return ModifyDbInstanceRequest.builder()
+                .allowMajorVersionUpgrade(request.allowMajorVersionUpgrade())
+                .applyImmediately(Boolean.FALSE)
+                .dbInstanceIdentifier(request.dbInstanceIdentifier())
+                .allocatedStorage(request.allocatedStorage())
+                .dbInstanceClass(request.dbInstanceClass())
+                .engineVersion(request.engineVersion())
+                .iops(request.iops())
+                .multiAZ(request.multiAZ())
+                .processorFeatures(request.hasProcessorFeatures() ? request.processorFeatures() : null)
+                .storageType(request.storageType())
+                .build();
+    }
+
+    public static boolean isDbInstanceModified(
+            final ResourceModel previousModel,
+            final ResourceModel desiredModel
+    ) {
+        return isAnyModified(MODIFIABLE_ATTRIBUTES, previousModel, desiredModel);
+    }
+
+    // Builds a change set: an attribute makes it to the request only if it differs from the previous model.
+    // A missing previous model (e.g. a modification right after create) results in a full-state request.
     public static ModifyDbInstanceRequest modifyDbInstanceRequest(
             final ResourceModel previousModel,
             final ResourceModel desiredModel,
@@ -179,40 +415,43 @@ public class Translator {
         ModifyDbInstanceRequest.Builder builder = ModifyDbInstanceRequest.builder()
                 .allowMajorVersionUpgrade(desiredModel.getAllowMajorVersionUpgrade())
                 .applyImmediately(Boolean.TRUE)
-                .autoMinorVersionUpgrade(desiredModel.getAutoMinorVersionUpgrade())
-                .backupRetentionPeriod(desiredModel.getBackupRetentionPeriod())
-                .caCertificateIdentifier(desiredModel.getCACertificateIdentifier())
-                .copyTagsToSnapshot(desiredModel.getCopyTagsToSnapshot())
-                .dbInstanceClass(desiredModel.getDBInstanceClass())
+                .autoMinorVersionUpgrade(diff(previousModel, desiredModel, ResourceModel::getAutoMinorVersionUpgrade))
+                .backupRetentionPeriod(diff(previousModel, desiredModel, ResourceModel::getBackupRetentionPeriod))
+                .caCertificateIdentifier(diff(previousModel, desiredModel, ResourceModel::getCACertificateIdentifier))
+                .copyTagsToSnapshot(diff(previousModel, desiredModel, ResourceModel::getCopyTagsToSnapshot))
+                .dbInstanceClass(diff(previousModel, desiredModel, ResourceModel::getDBInstanceClass))
                 .dbInstanceIdentifier(desiredModel.getDBInstanceIdentifier())
-                .dbParameterGroupName(desiredModel.getDBParameterGroupName())
-                .dbPortNumber(desiredModel.getPort())
-                .deletionProtection(desiredModel.getDeletionProtection())
-                .domain(desiredModel.getDomain())
-                .domainIAMRoleName(desiredModel.getDomainIAMRoleName())
-                .enableIAMDatabaseAuthentication(desiredModel.getEnableIAMDatabaseAuthentication())
-                .enablePerformanceInsights(desiredModel.getEnablePerformanceInsights())
-                .engineVersion(desiredModel.getEngineVersion())
-                .licenseModel(desiredModel.getLicenseModel())
-                .masterUserPassword(desiredModel.getMasterUserPassword())
-                .maxAllocatedStorage(desiredModel.getMaxAllocatedStorage())
-                .monitoringInterval(desiredModel.getMonitoringInterval())
-                .monitoringRoleArn(desiredModel.getMonitoringRoleArn())
-                .multiAZ(desiredModel.getMultiAZ())
-                .newDBInstanceIdentifier(desiredModel.getDBInstanceIdentifier())
-                .optionGroupName(desiredModel.getOptionGroupName())
-                .performanceInsightsKMSKeyId(desiredModel.getPerformanceInsightsKMSKeyId())
-                .performanceInsightsRetentionPeriod(desiredModel.getPerformanceInsightsRetentionPeriod())
-                .preferredBackupWindow(desiredModel.getPreferredBackupWindow())
-                .preferredMaintenanceWindow(desiredModel.getPreferredMaintenanceWindow())
-                .processorFeatures(translateProcessorFeaturesToSdk(desiredModel.getProcessorFeatures()))
-                .promotionTier(desiredModel.getPromotionTier())
-                .publiclyAccessible(desiredModel.getPubliclyAccessible())
-                .storageType(desiredModel.getStorageType())
-                .tdeCredentialArn(desiredModel.getTdeCredentialArn())
-                .tdeCredentialPassword(desiredModel.getTdeCredentialPassword())
-                .useDefaultProcessorFeatures(desiredModel.getUseDefaultProcessorFeatures())
-                .vpcSecurityGroupIds(desiredModel.getVPCSecurityGroups());
+                .dbParameterGroupName(diff(previousModel, desiredModel, ResourceModel::getDBParameterGroupName))
+                .dbPortNumber(diff(previousModel, desiredModel, ResourceModel::getPort))
+                .deletionProtection(diff(previousModel, desiredModel, ResourceModel::getDeletionProtection))
+                .domain(diff(previousModel, desiredModel, ResourceModel::getDomain))
+                .domainIAMRoleName(diff(previousModel, desiredModel, ResourceModel::getDomainIAMRoleName))
+                .enableIAMDatabaseAuthentication(diff(previousModel, desiredModel, ResourceModel::getEnableIAMDatabaseAuthentication))
+                .enablePerformanceInsights(diff(previousModel, desiredModel, ResourceModel::getEnablePerformanceInsights))
+                .engineVersion(diff(previousModel, desiredModel, ResourceModel::getEngineVersion))
+                .licenseModel(diff(previousModel, desiredModel, ResourceModel::getLicenseModel))
+                .masterUserPassword(diff(previousModel, desiredModel, ResourceModel::getMasterUserPassword))
+                .maxAllocatedStorage(diff(previousModel, desiredModel, ResourceModel::getMaxAllocatedStorage))
+                .monitoringInterval(diff(previousModel, desiredModel, ResourceModel::getMonitoringInterval))
+                .monitoringRoleArn(diff(previousModel, desiredModel, ResourceModel::getMonitoringRoleArn))
+                .multiAZ(diff(previousModel, desiredModel, ResourceModel::getMultiAZ))
+                .optionGroupName(diff(previousModel, desiredModel, ResourceModel::getOptionGroupName))
+                .performanceInsightsKMSKeyId(diff(previousModel, desiredModel, ResourceModel::getPerformanceInsightsKMSKeyId))
+                .performanceInsightsRetentionPeriod(diff(previousModel, desiredModel, ResourceModel::getPerformanceInsightsRetentionPeriod))
+                .preferredBackupWindow(diff(previousModel, desiredModel, ResourceModel::getPreferredBackupWindow))
+                .preferredMaintenanceWindow(diff(previousModel, desiredModel, ResourceModel::getPreferredMaintenanceWindow))
+                .promotionTier(diff(previousModel, desiredModel, ResourceModel::getPromotionTier))
+                .publiclyAccessible(diff(previousModel, desiredModel, ResourceModel::getPubliclyAccessible))
+                .storageType(diff(previousModel, desiredModel, ResourceModel::getStorageType))
+                .tdeCredentialArn(diff(previousModel, desiredModel, ResourceModel::getTdeCredentialArn))
+                .tdeCredentialPassword(diff(previousModel, desiredModel, ResourceModel::getTdeCredentialPassword))
+                .useDefaultProcessorFeatures(diff(previousModel, desiredModel, ResourceModel::getUseDefaultProcessorFeatures))
+                .vpcSecurityGroupIds(diff(previousModel, desiredModel, ResourceModel::getVPCSecurityGroups));
+
+        final List<ProcessorFeature> processorFeatures = diff(previousModel, desiredModel, ResourceModel::getProcessorFeatures);
+        if (processorFeatures != null) {
+            builder.processorFeatures(translateProcessorFeaturesToSdk(processorFeatures));
+        }
 
         // An attempt to "move" an instance to the same db subnet will cause a
         // 400: "The specified DB instance is already in the target DB subnet group."
@@ -227,23 +466,44 @@ public class Translator {
                 Optional.ofNullable(previousModel).map(ResourceModel::getEnableCloudwatchLogsExports).orElse(Collections.emptyList()),
                 desiredModel.getEnableCloudwatchLogsExports()
         );
-        builder.cloudwatchLogsExportConfiguration(cloudwatchLogsExportConfiguration);
+        if (!cloudwatchLogsExportConfiguration.enableLogTypes().isEmpty() ||
+                !cloudwatchLogsExportConfiguration.disableLogTypes().isEmpty()) {
+            builder.cloudwatchLogsExportConfiguration(cloudwatchLogsExportConfiguration);
+        }
 
         if (previousModel != null && BooleanUtils.isTrue(isRollback)) {
-            builder.allocatedStorage(
-                    canUpdateAllocatedStorage(previousModel.getAllocatedStorage(), desiredModel.getAllocatedStorage()) ? getAllocatedStorage(desiredModel) : getAllocatedStorage(previousModel)
-            );
-            builder.iops(
-                    canUpdateIops(previousModel.getIops(), desiredModel.getIops()) ? desiredModel.getIops() : previousModel.getIops()
-            );
+            if (ObjectUtils.notEqual(previousModel.getAllocatedStorage(), desiredModel.getAllocatedStorage())) {
+                builder.allocatedStorage(
+                        canUpdateAllocatedStorage(previousModel.getAllocatedStorage(), desiredModel.getAllocatedStorage()) ? getAllocatedStorage(desiredModel) : getAllocatedStorage(previousModel)
+                );
+            }
+            if (ObjectUtils.notEqual(previousModel.getIops(), desiredModel.getIops())) {
+                builder.iops(
+                        canUpdateIops(previousModel.getIops(), desiredModel.getIops()) ? desiredModel.getIops() : previousModel.getIops()
+                );
+            }
         } else {
-            builder.allocatedStorage(getAllocatedStorage(desiredModel));
-            builder.iops(desiredModel.getIops());
+            if (diff(previousModel, desiredModel, ResourceModel::getAllocatedStorage) != null) {
+                builder.allocatedStorage(getAllocatedStorage(desiredModel));
+            }
+            builder.iops(diff(previousModel, desiredModel, ResourceModel::getIops));
         }
 
         return builder.build();
     }
 
+    private static <T> T diff(
+            final ResourceModel previousModel,
+            final ResourceModel desiredModel,
+            final Function<ResourceModel, T> getter
+    ) {
+        final T desiredValue = getter.apply(desiredModel);
+        if (previousModel != null && Objects.equals(getter.apply(previousModel), desiredValue)) {
+            return null;
+        }
+        return desiredValue;
+    }
+
     public static RemoveRoleFromDbInstanceRequest removeRoleFromDbInstanceRequest(
             final ResourceModel model,
             final DBInstanceRole role
@@ -336,14 +596,28 @@ public class Translator {
     }
 
     public static DescribeDbEngineVersionsRequest describeDbEngineVersionsRequest(
-            final String dbParameterGroupFamily,
             final String engine,
-            final String engineVersion
+            final String engineVersion,
+            final String marker
     ) {
         return DescribeDbEngineVersionsRequest.builder()
-                .dbParameterGroupFamily(dbParameterGroupFamily)
                 .engine(engine)
                 .engineVersion(engineVersion)
+                .marker(marker)
+                .build();
+    }
+
+    public static DescribeOrderableDbInstanceOptionsRequest describeOrderableDbInstanceOptionsRequest(
+            final String engine,
+            final String engineVersion,
+            final Integer maxRecords,
+            final String marker
+    ) {
+        return DescribeOrderableDbInstanceOptionsRequest.builder()
+                .engine(engine)
+                .engineVersion(engineVersion)
+                .maxRecords(maxRecords)
+                .marker(marker)
                 .build();
     }
 
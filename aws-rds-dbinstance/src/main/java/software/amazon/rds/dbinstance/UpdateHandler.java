@@ -13,13 +13,9 @@ import org.apache.commons.lang3.ObjectUtils;
 import com.amazonaws.util.CollectionUtils;
 import com.amazonaws.util.StringUtils;
 import software.amazon.awssdk.services.ec2.Ec2Client;
-import software.amazon.awssdk.services.ec2.model.SecurityGroup;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.DBInstance;
 import software.amazon.awssdk.services.rds.model.DBParameterGroup;
-import software.amazon.awssdk.services.rds.model.DBParameterGroupStatus;
-import software.amazon.awssdk.services.rds.model.DbInstanceNotFoundException;
-import software.amazon.awssdk.services.rds.model.DescribeDbEngineVersionsResponse;
 import software.amazon.awssdk.services.rds.model.DescribeDbParameterGroupsResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -29,8 +25,6 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class UpdateHandler extends BaseHandlerStd {
 
-    public static final String PENDING_REBOOT_STATUS = "pending-reboot";
-
     public UpdateHandler() {
         this(new HandlerConfig());
     }
@@ -60,27 +54,34 @@ public class UpdateHandler extends BaseHandlerStd {
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
                 .then(progress -> {
                     if (shouldSetParameterGroupName(request)) {
-                        return setParameterGroupName(rdsProxyClient, progress);
+                        return setParameterGroupName(rdsProxyClient, progress, request.getRegion());
                     }
                     return progress;
                 })
                 .then(progress -> {
                     if (shouldSetDefaultVpcId(request)) {
-                        return setDefaultVpcId(rdsProxyClient, ec2ProxyClient, progress);
+                        return setDefaultVpcId(request, rdsProxyClient, ec2ProxyClient, progress, logger);
                     }
                     return progress;
                 })
                 .then(progress -> ensureEngineSet(rdsProxyClient, progress))
-                .then(progress -> execOnce(progress, () ->
-                                updateDbInstance(proxy, request, rdsProxyClient, progress),
-                        CallbackContext::isUpdated, CallbackContext::setUpdated)
+                .then(progress -> execOnce(progress, () -> {
+                            if (shouldUpdateDbInstance(request)) {
+                                return updateDbInstance(proxy, request, rdsProxyClient, progress);
+                            }
+                            return progress;
+                        }, CallbackContext::isUpdated, CallbackContext::setUpdated)
                 )
                 .then(progress -> execOnce(progress, () -> {
-                            if (shouldReboot(rdsProxyClient, progress)) {
-                                return rebootAwait(proxy, rdsProxyClient, progress);
+                            if (shouldDeferModifications(request)) {
+                                return updateDbInstanceDeferred(proxy, request, rdsProxyClient, progress);
                             }
                             return progress;
-                        }, CallbackContext::isRebooted, CallbackContext::setRebooted)
+                        }, CallbackContext::isUpdatedDeferred, CallbackContext::setUpdatedDeferred)
+                )
+                .then(progress -> execOnce(progress, () ->
+                                rebootAwaitIfRequired(proxy, rdsProxyClient, progress, logger),
+                        CallbackContext::isRebooted, CallbackContext::setRebooted)
                 )
                 .then(progress -> execOnce(progress, () ->
                                 updateAssociatedRoles(proxy, rdsProxyClient, progress, previousRoles, desiredRoles),
@@ -90,20 +91,20 @@ public class UpdateHandler extends BaseHandlerStd {
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, rdsProxyClient, ec2ProxyClient, logger));
     }
 
-    private boolean shouldReboot(
-            final ProxyClient<RdsClient> proxyClient,
-            final ProgressEvent<ResourceModel, CallbackContext> progress
-    ) {
-        try {
-            final DBInstance dbInstance = fetchDBInstance(proxyClient, progress.getResourceModel());
-            Optional<DBParameterGroupStatus> maybeStatus = dbInstance.dbParameterGroups().stream().findFirst();
-            if (maybeStatus.isPresent()) {
-                return PENDING_REBOOT_STATUS.equals(maybeStatus.get().parameterApplyStatus());
-            }
-        } catch (DbInstanceNotFoundException e) {
-            return false;
+    private boolean shouldUpdateDbInstance(final ResourceHandlerRequest<ResourceModel> request) {
+        if (shouldDeferModifications(request)) {
+            return Translator.isDbInstanceImmediatelyModified(request.getPreviousResourceState(), request.getDesiredResourceState());
         }
-        return false;
+        return Translator.isDbInstanceModified(request.getPreviousResourceState(), request.getDesiredResourceState());
+    }
+
+    // With ApplyImmediately set to false, class, storage, engine version and Multi-AZ changes are left for the next
+    // maintenance window: the update completes as soon as they show up in the instance pending modified values.
+    // A rollback always applies immediately: the instance is expected to converge back to the previous state.
+    private boolean shouldDeferModifications(final ResourceHandlerRequest<ResourceModel> request) {
+        return BooleanUtils.isFalse(request.getDesiredResourceState().getApplyImmediately()) &&
+                BooleanUtils.isNotTrue(request.getRollback()) &&
+                Translator.canDeferDbInstanceModifications(request.getPreviousResourceState(), request.getDesiredResourceState());
     }
 
     private boolean shouldSetParameterGroupName(final ResourceHandlerRequest<ResourceModel> request) {
@@ -122,22 +123,58 @@ public class UpdateHandler extends BaseHandlerStd {
             final ProgressEvent<ResourceModel, CallbackContext> progress
     ) {
         return proxy.initiate("rds::modify-db-instance", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                .translateToServiceRequest(resourceModel -> Translator.modifyDbInstanceRequest(
-                        request.getPreviousResourceState(),
-                        request.getDesiredResourceState(),
-                        BooleanUtils.isTrue(request.getRollback()))
-                )
-                .backoffDelay(config.getBackoff())
-                .makeServiceCall((modifyRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
-                        modifyRequest,
-                        proxyInvocation.client()::modifyDBInstance
+                .translateToServiceRequest(resourceModel -> {
+                    if (shouldDeferModifications(request)) {
+                        return Translator.modifyDbInstanceImmediateRequest(
+                                request.getPreviousResourceState(),
+                                request.getDesiredResourceState()
+                        );
+                    }
+                    return Translator.modifyDbInstanceRequest(
+                            request.getPreviousResourceState(),
+                            request.getDesiredResourceState(),
+                            BooleanUtils.isTrue(request.getRollback())
+                    );
+                })
+                .backoffDelay(getBackoffDelay(progress.getCallbackContext()))
+                .makeServiceCall((modifyRequest, proxyInvocation) -> {
+                    progress.getCallbackContext().invalidateDbInstanceSnapshot();
+                    return proxyInvocation.injectCredentialsAndInvokeV2(
+                            modifyRequest,
+                            proxyInvocation.client()::modifyDBInstance
+                    );
+                })
+                .stabilize((modifyRequest, response, proxyInvocation, model, context) ->
+                        isDbInstanceModificationApplied(proxyInvocation, modifyRequest, model, context, "update-db-instance-available"))
+                .handleError((modifyRequest, exception, client, model, context) -> handleException(
+                        ProgressEvent.progress(model, context),
+                        exception
                 ))
-                .stabilize((modifyRequest, response, proxyInvocation, model, context) -> withProbing(
-                        context,
-                        "update-db-instance-available",
-                        3,
-                        () -> isDbInstanceStabilized(proxyInvocation, model)
+                .progress();
+    }
+
+    // Must run after the immediate modification: ApplyImmediately=true would apply all pending changes as well.
+    private ProgressEvent<ResourceModel, CallbackContext> updateDbInstanceDeferred(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final ProgressEvent<ResourceModel, CallbackContext> progress
+    ) {
+        return proxy.initiate("rds::modify-db-instance-deferred", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                .translateToServiceRequest(resourceModel -> Translator.modifyDbInstanceDeferredRequest(
+                        request.getPreviousResourceState(),
+                        request.getDesiredResourceState()
                 ))
+                .backoffDelay(getBackoffDelay(progress.getCallbackContext()))
+                .makeServiceCall((modifyRequest, proxyInvocation) -> {
+                    progress.getCallbackContext().invalidateDbInstanceSnapshot();
+                    return proxyInvocation.injectCredentialsAndInvokeV2(
+                            modifyRequest,
+                            proxyInvocation.client()::modifyDBInstance
+                    );
+                })
+                .stabilize((modifyRequest, response, proxyInvocation, model, context) ->
+                        isDbInstanceModificationPending(proxyInvocation, modifyRequest, model, context))
                 .handleError((modifyRequest, exception, client, model, context) -> handleException(
                         ProgressEvent.progress(model, context),
                         exception
@@ -147,8 +184,15 @@ public class UpdateHandler extends BaseHandlerStd {
 
     private ProgressEvent<ResourceModel, CallbackContext> setParameterGroupName(
             final ProxyClient<RdsClient> rdsProxyClient,
-            final ProgressEvent<ResourceModel, CallbackContext> progress
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final String region
     ) {
+        final CallbackContext context = progress.getCallbackContext();
+        if (context.isParameterGroupNameResolved()) {
+            progress.getResourceModel().setDBParameterGroupName(context.getResolvedDbParameterGroupName());
+            return progress;
+        }
+
         final String dbParameterGroupName = progress.getResourceModel().getDBParameterGroupName();
 
         if (StringUtils.isNullOrEmpty(dbParameterGroupName)) {
@@ -166,20 +210,22 @@ public class UpdateHandler extends BaseHandlerStd {
         final Optional<DBParameterGroup> maybeDbParameterGroup = response.dbParameterGroups().stream().findFirst();
 
         if (!maybeDbParameterGroup.isPresent()) {
+            context.setResolvedDbParameterGroupName(dbParameterGroupName);
+            context.setParameterGroupNameResolved(true);
             return progress;
         }
 
         final String dbParameterGroupFamily = maybeDbParameterGroup.get().dbParameterGroupFamily();
-        final DescribeDbEngineVersionsResponse describeDbEngineVersionsResponse = rdsProxyClient.injectCredentialsAndInvokeV2(
-                Translator.describeDbEngineVersionsRequest(dbParameterGroupFamily, engine, engineVersion),
-                rdsProxyClient.client()::describeDBEngineVersions
-        );
+        final boolean isCompatible = config.getEngineVersionFamilyIndex()
+                .isCompatible(rdsProxyClient, region, engine, engineVersion, dbParameterGroupFamily);
 
-        if (CollectionUtils.isNullOrEmpty(describeDbEngineVersionsResponse.dbEngineVersions())) {
-            progress.getResourceModel().setDBParameterGroupName(null);
-        } else {
+        if (isCompatible) {
             progress.getResourceModel().setDBParameterGroupName(dbParameterGroupName);
+        } else {
+            progress.getResourceModel().setDBParameterGroupName(null);
         }
+        context.setResolvedDbParameterGroupName(progress.getResourceModel().getDBParameterGroupName());
+        context.setParameterGroupNameResolved(true);
 
         return progress;
     }
@@ -189,31 +235,41 @@ public class UpdateHandler extends BaseHandlerStd {
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> setDefaultVpcId(
+            final ResourceHandlerRequest<ResourceModel> request,
             final ProxyClient<RdsClient> rdsProxyClient,
             final ProxyClient<Ec2Client> ec2ProxyClient,
-            final ProgressEvent<ResourceModel, CallbackContext> progress
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final Logger logger
     ) {
+        final CallbackContext context = progress.getCallbackContext();
+        if (context.isDefaultSecurityGroupResolved()) {
+            setDBSecurityGroup(progress.getResourceModel(), context.getDefaultSecurityGroupId());
+            return progress;
+        }
 
-        SecurityGroup securityGroup;
+        String groupId;
 
         try {
-            final DBInstance dbInstance = fetchDBInstance(rdsProxyClient, progress.getResourceModel());
+            final DBInstance dbInstance = fetchDBInstance(rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext());
             final String vpcId = dbInstance.dbSubnetGroup().vpcId();
-            securityGroup = fetchSecurityGroup(ec2ProxyClient, vpcId, "default");
+            groupId = fetchDefaultSecurityGroupId(ec2ProxyClient, request, vpcId, logger);
         } catch (Exception e) {
             return handleException(progress, e);
         }
 
-        if (securityGroup != null) {
-            final String groupId = securityGroup.groupId();
-            if (StringUtils.hasValue(groupId)) {
-                progress.getResourceModel().setDBSecurityGroups(Collections.singletonList(groupId));
-            }
-        }
+        setDBSecurityGroup(progress.getResourceModel(), groupId);
+        context.setDefaultSecurityGroupId(groupId);
+        context.setDefaultSecurityGroupResolved(true);
 
         return progress;
     }
 
+    private void setDBSecurityGroup(final ResourceModel model, final String groupId) {
+        if (StringUtils.hasValue(groupId)) {
+            model.setDBSecurityGroups(Collections.singletonList(groupId));
+        }
+    }
+
     private ProgressEvent<ResourceModel, CallbackContext> updateTags(
             final AmazonWebServicesClientProxy proxy,
             final ProxyClient<RdsClient> rdsProxyClient,
@@ -232,9 +288,10 @@ public class UpdateHandler extends BaseHandlerStd {
         }
 
         try {
-            final DBInstance dbInstance = fetchDBInstance(rdsProxyClient, progress.getResourceModel());
+            final DBInstance dbInstance = fetchDBInstance(rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext());
             final String arn = dbInstance.dbInstanceArn();
 
+            progress.getCallbackContext().invalidateDbInstanceSnapshot();
             removeOldTags(rdsProxyClient, arn, tagsToRemove);
             addNewTags(rdsProxyClient, arn, tagsToAdd);
         } catch (Exception e) {
@@ -0,0 +1,84 @@
+package software.amazon.rds.dbinstance.util;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+// A bounded in-memory cache with a fixed time-to-live per entry.
+// It is meant to outlive a single invocation in a warm container, so it is safe for concurrent use.
+// The least recently accessed entry is evicted once the cache is full.
+public class TtlCache<K, V> {
+
+    private static class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        Entry(final V value, final long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final Map<K, Entry<V>> entries;
+
+    private long hits;
+    private long misses;
+
+    public TtlCache(final Duration ttl, final int maxSize) {
+        this(ttl, maxSize, System::currentTimeMillis);
+    }
+
+    public TtlCache(final Duration ttl, final int maxSize, final LongSupplier clock) {
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public synchronized Optional<V> get(final K key) {
+        final Entry<V> entry = entries.get(key);
+        if (entry == null || entry.expiresAt <= clock.getAsLong()) {
+            entries.remove(key);
+            misses++;
+            return Optional.empty();
+        }
+        hits++;
+        return Optional.of(entry.value);
+    }
+
+    public synchronized void put(final K key, final V value) {
+        entries.put(key, new Entry<>(value, clock.getAsLong() + ttlMillis));
+    }
+
+    // Null values are not cached: an absent result is looked up again on the next access.
+    public V computeIfAbsent(final K key, final Function<K, V> loader) {
+        final Optional<V> cached = get(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        final V value = loader.apply(key);
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+}
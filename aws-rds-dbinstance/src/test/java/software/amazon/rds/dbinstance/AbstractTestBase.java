@@ -55,10 +55,12 @@ public abstract class AbstractTestBase {
     protected static final String DB_INSTANCE_ARN_EMPTY = null;
     protected static final String DB_INSTANCE_ARN_NON_EMPTY = "db-instance-arn";
     protected static final String DB_INSTANCE_CLASS_DEFAULT = "db.m5.large";
+    protected static final String DB_INSTANCE_CLASS_ALTER = "db.m5.xlarge";
     protected static final String DB_INSTANCE_STATUS_AVAILABLE = "available";
     protected static final String DB_INSTANCE_STATUS_CREATING = "creating";
     protected static final String DB_INSTANCE_STATUS_DELETING = "deleting";
     protected static final String DB_INSTANCE_STATUS_MODIFYING = "modifying";
+    protected static final String DB_INSTANCE_STATUS_REBOOTING = "rebooting";
     protected static final String DB_INSTANCE_STATUS_FAILED = "failed";
     protected static final String DB_NAME = "db-instance-db-name";
     protected static final String DB_PARAMETER_GROUP_NAME_DEFAULT = "default";
@@ -95,6 +97,7 @@ public abstract class AbstractTestBase {
     protected static final String ENGINE_SQLSERVER_WEB = "sqlserver-web";
     protected static final String ENGINE_VERSION_MYSQL_56 = "5.6";
     protected static final String ENGINE_VERSION_MYSQL_80 = "8.0";
+    protected static final String DB_PARAMETER_GROUP_FAMILY_MYSQL_80 = "mysql8.0";
     protected static final Integer IOPS_DEFAULT = 10_000;
     protected static final Integer IOPS_INCR = 20_000;
     protected static final Integer IOPS_DECR = 5_000;
@@ -0,0 +1,85 @@
+package software.amazon.rds.dbinstance;
+
+import junit.framework.Assert;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.PendingModifiedValues;
+
+class ModificationTrackerTest extends AbstractTestBase {
+
+    private static final ModifyDbInstanceRequest MODIFY_INSTANCE_CLASS = ModifyDbInstanceRequest.builder()
+            .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER_NON_EMPTY)
+            .applyImmediately(true)
+            .dbInstanceClass(DB_INSTANCE_CLASS_ALTER)
+            .build();
+
+    @Test
+    public void test_isApplied_NotStartedYet() {
+        Assert.assertFalse(ModificationTracker.isApplied(MODIFY_INSTANCE_CLASS, DB_INSTANCE_ACTIVE));
+    }
+
+    @Test
+    public void test_isApplied_Pending() {
+        final DBInstance dbInstance = DB_INSTANCE_ACTIVE.toBuilder()
+                .pendingModifiedValues(PendingModifiedValues.builder()
+                        .dbInstanceClass(DB_INSTANCE_CLASS_ALTER)
+                        .build())
+                .build();
+        Assert.assertFalse(ModificationTracker.isApplied(MODIFY_INSTANCE_CLASS, dbInstance));
+    }
+
+    @Test
+    public void test_isApplied_Modifying() {
+        final DBInstance dbInstance = DB_INSTANCE_ACTIVE.toBuilder()
+                .dbInstanceClass(DB_INSTANCE_CLASS_ALTER)
+                .dbInstanceStatus(DB_INSTANCE_STATUS_MODIFYING)
+                .build();
+        Assert.assertFalse(ModificationTracker.isApplied(MODIFY_INSTANCE_CLASS, dbInstance));
+    }
+
+    @Test
+    public void test_isApplied_Applied() {
+        final DBInstance dbInstance = DB_INSTANCE_ACTIVE.toBuilder()
+                .dbInstanceClass(DB_INSTANCE_CLASS_ALTER)
+                .build();
+        Assert.assertTrue(ModificationTracker.isApplied(MODIFY_INSTANCE_CLASS, dbInstance));
+    }
+
+    @Test
+    public void test_isApplied_MajorEngineVersion() {
+        final ModifyDbInstanceRequest request = ModifyDbInstanceRequest.builder()
+                .engineVersion(ENGINE_VERSION_MYSQL_80)
+                .build();
+        final DBInstance dbInstance = DB_INSTANCE_ACTIVE.toBuilder()
+                .engineVersion(ENGINE_VERSION_MYSQL_80 + ".28")
+                .build();
+        Assert.assertTrue(ModificationTracker.isApplied(request, dbInstance));
+    }
+
+    @Test
+    public void test_isApplied_PortFromEndpoint() {
+        final ModifyDbInstanceRequest request = ModifyDbInstanceRequest.builder()
+                .dbPortNumber(PORT_DEFAULT)
+                .build();
+        Assert.assertTrue(ModificationTracker.isApplied(request, DB_INSTANCE_EMPTY_PORT));
+    }
+
+    @Test
+    public void test_isApplied_PortNotApplied() {
+        final ModifyDbInstanceRequest request = ModifyDbInstanceRequest.builder()
+                .dbPortNumber(PORT_DEFAULT + 1)
+                .build();
+        Assert.assertFalse(ModificationTracker.isApplied(request, DB_INSTANCE_EMPTY_PORT));
+    }
+
+    @Test
+    public void test_isObservable() {
+        Assert.assertTrue(ModificationTracker.isObservable(MODIFY_INSTANCE_CLASS));
+        Assert.assertFalse(ModificationTracker.isObservable(MODIFY_INSTANCE_CLASS.toBuilder()
+                .monitoringInterval(MONITORING_INTERVAL_DEFAULT)
+                .build()));
+    }
+}
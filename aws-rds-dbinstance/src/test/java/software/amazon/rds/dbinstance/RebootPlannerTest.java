@@ -0,0 +1,75 @@
+package software.amazon.rds.dbinstance;
+
+import junit.framework.Assert;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.DBParameterGroupStatus;
+import software.amazon.awssdk.services.rds.model.OptionGroupMembership;
+import software.amazon.awssdk.services.rds.model.PendingModifiedValues;
+
+class RebootPlannerTest extends AbstractTestBase {
+
+    private static final String IN_SYNC_STATUS = "in-sync";
+
+    @Test
+    public void test_isRebootRequired_NothingPending() {
+        Assert.assertFalse(RebootPlanner.isRebootRequired(DB_INSTANCE_ACTIVE));
+    }
+
+    @Test
+    public void test_isRebootRequired_ParameterGroupsInSync() {
+        final DBInstance dbInstance = DB_INSTANCE_ACTIVE.toBuilder()
+                .dbParameterGroups(DBParameterGroupStatus.builder()
+                        .dbParameterGroupName(DB_PARAMETER_GROUP_NAME_DEFAULT)
+                        .parameterApplyStatus(IN_SYNC_STATUS)
+                        .build())
+                .optionGroupMemberships(OptionGroupMembership.builder()
+                        .optionGroupName(OPTION_GROUP_NAME_MYSQL_DEFAULT)
+                        .status(IN_SYNC_STATUS)
+                        .build())
+                .pendingModifiedValues(PendingModifiedValues.builder().allocatedStorage(ALLOCATED_STORAGE).build())
+                .build();
+        Assert.assertFalse(RebootPlanner.isRebootRequired(dbInstance));
+    }
+
+    @Test
+    public void test_isRebootRequired_AnyParameterGroupPendingReboot() {
+        final DBInstance dbInstance = DB_INSTANCE_ACTIVE.toBuilder()
+                .dbParameterGroups(ImmutableList.of(
+                        DBParameterGroupStatus.builder()
+                                .dbParameterGroupName(DB_PARAMETER_GROUP_NAME_DEFAULT)
+                                .parameterApplyStatus(IN_SYNC_STATUS)
+                                .build(),
+                        DBParameterGroupStatus.builder()
+                                .dbParameterGroupName(DB_PARAMETER_GROUP_NAME_ALTER)
+                                .parameterApplyStatus(RebootPlanner.PENDING_REBOOT_STATUS)
+                                .build()
+                ))
+                .build();
+        Assert.assertTrue(RebootPlanner.isRebootRequired(dbInstance));
+    }
+
+    @Test
+    public void test_isRebootRequired_OptionGroupPendingReboot() {
+        final DBInstance dbInstance = DB_INSTANCE_ACTIVE.toBuilder()
+                .optionGroupMemberships(OptionGroupMembership.builder()
+                        .optionGroupName(OPTION_GROUP_NAME_MYSQL_DEFAULT)
+                        .status(RebootPlanner.PENDING_REBOOT_STATUS)
+                        .build())
+                .build();
+        Assert.assertTrue(RebootPlanner.isRebootRequired(dbInstance));
+    }
+
+    @Test
+    public void test_isRebootRequired_CACertificatePending() {
+        final DBInstance dbInstance = DB_INSTANCE_ACTIVE.toBuilder()
+                .pendingModifiedValues(PendingModifiedValues.builder()
+                        .caCertificateIdentifier(CA_CERTIFICATE_IDENTIFIER_NON_EMPTY)
+                        .build())
+                .build();
+        Assert.assertTrue(RebootPlanner.isRebootRequired(dbInstance));
+    }
+}
@@ -0,0 +1,97 @@
+package software.amazon.rds.dbinstance;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import junit.framework.Assert;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.cloudformation.proxy.Delay;
+
+class StatusAwarePollingStrategyTest {
+
+    private static final StatusAwarePollingStrategy.Schedule FAST = StatusAwarePollingStrategy.Schedule.builder()
+            .initialDelay(Duration.ofSeconds(5))
+            .multiplier(2.0)
+            .maxDelay(Duration.ofSeconds(15))
+            .build();
+
+    private static final StatusAwarePollingStrategy.Schedule SLOW = StatusAwarePollingStrategy.Schedule.builder()
+            .initialDelay(Duration.ofSeconds(30))
+            .multiplier(1.0)
+            .maxDelay(Duration.ofSeconds(30))
+            .build();
+
+    private StatusAwarePollingStrategy strategy(final Duration timeout) {
+        return StatusAwarePollingStrategy.builder()
+                .schedule(FAST, DBInstanceStatus.Rebooting)
+                .defaultSchedule(SLOW)
+                .timeout(timeout)
+                .build();
+    }
+
+    @Test
+    public void test_nextDelay_GrowsWhileStatusIsUnchanged() {
+        final Delay delay = strategy(Duration.ofMinutes(10)).newDelay(DBInstanceStatus.Rebooting::toString, new PollingState());
+        Assert.assertEquals(Duration.ofSeconds(5), delay.nextDelay(1));
+        Assert.assertEquals(Duration.ofSeconds(10), delay.nextDelay(2));
+        Assert.assertEquals(Duration.ofSeconds(15), delay.nextDelay(3));
+        Assert.assertEquals(Duration.ofSeconds(15), delay.nextDelay(4));
+    }
+
+    @Test
+    public void test_nextDelay_StatusChangeResetsSchedule() {
+        final AtomicReference<String> status = new AtomicReference<>(DBInstanceStatus.Rebooting.toString());
+        final Delay delay = strategy(Duration.ofMinutes(10)).newDelay(status::get, new PollingState());
+        Assert.assertEquals(Duration.ofSeconds(5), delay.nextDelay(1));
+        Assert.assertEquals(Duration.ofSeconds(10), delay.nextDelay(2));
+        status.set(DBInstanceStatus.Modifying.toString());
+        Assert.assertEquals(Duration.ofSeconds(30), delay.nextDelay(3));
+        status.set(DBInstanceStatus.Rebooting.toString());
+        Assert.assertEquals(Duration.ofSeconds(5), delay.nextDelay(4));
+    }
+
+    @Test
+    public void test_nextDelay_UnknownStatusUsesDefaultSchedule() {
+        final Delay delay = strategy(Duration.ofMinutes(10)).newDelay(() -> null, new PollingState());
+        Assert.assertEquals(Duration.ofSeconds(30), delay.nextDelay(1));
+    }
+
+    @Test
+    public void test_nextDelay_TimesOut() {
+        final Delay delay = strategy(Duration.ofSeconds(40)).newDelay(() -> null, new PollingState());
+        Assert.assertEquals(Duration.ofSeconds(30), delay.nextDelay(1));
+        Assert.assertEquals(Duration.ofSeconds(10), delay.nextDelay(2));
+        Assert.assertEquals(Duration.ZERO, delay.nextDelay(3));
+    }
+
+    @Test
+    public void test_nextDelay_TimesOutAcrossInvocations() {
+        // Every poll is a handler re-invocation: a fresh delay is built each time over the persisted state.
+        final StatusAwarePollingStrategy strategy = strategy(Duration.ofSeconds(40));
+        final PollingState state = new PollingState();
+        Assert.assertEquals(Duration.ofSeconds(30), strategy.newDelay(() -> null, state).nextDelay(1));
+        Assert.assertEquals(Duration.ofSeconds(10), strategy.newDelay(() -> null, state).nextDelay(2));
+        Assert.assertEquals(Duration.ZERO, strategy.newDelay(() -> null, state).nextDelay(3));
+    }
+
+    @Test
+    public void test_nextDelay_GrowsAcrossInvocations() {
+        final StatusAwarePollingStrategy strategy = strategy(Duration.ofMinutes(10));
+        final PollingState state = new PollingState();
+        Assert.assertEquals(Duration.ofSeconds(5), strategy.newDelay(DBInstanceStatus.Rebooting::toString, state).nextDelay(1));
+        Assert.assertEquals(Duration.ofSeconds(10), strategy.newDelay(DBInstanceStatus.Rebooting::toString, state).nextDelay(2));
+        Assert.assertEquals(Duration.ofSeconds(15), strategy.newDelay(DBInstanceStatus.Rebooting::toString, state).nextDelay(3));
+    }
+
+    @Test
+    public void test_nextDelay_NewCallChainStartsOver() {
+        final StatusAwarePollingStrategy strategy = strategy(Duration.ofSeconds(40));
+        final PollingState state = new PollingState();
+        Assert.assertEquals(Duration.ofSeconds(30), strategy.newDelay(() -> null, state).nextDelay(1));
+        Assert.assertEquals(Duration.ofSeconds(10), strategy.newDelay(() -> null, state).nextDelay(2));
+        // the attempts of the next call chain start from the beginning again
+        Assert.assertEquals(Duration.ofSeconds(30), strategy.newDelay(() -> null, state).nextDelay(1));
+    }
+}
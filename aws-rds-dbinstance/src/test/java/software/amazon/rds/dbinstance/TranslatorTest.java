@@ -1,5 +1,7 @@
 package software.amazon.rds.dbinstance;
 
+import java.util.Collections;
+
 import junit.framework.Assert;
 
 import org.junit.jupiter.api.Test;
@@ -111,4 +113,113 @@ class TranslatorTest extends AbstractTestBase {
         final ModifyDbInstanceRequest request = Translator.modifyDbInstanceRequest(previousModel, desiredModel, isRollback);
         Assert.assertEquals(request.iops(), IOPS_DEFAULT);
     }
+
+    @Test
+    public void test_modifyDbInstanceRequest_OmitsUnchangedAttributes() {
+        final ResourceModel previousModel = RESOURCE_MODEL_BLDR()
+                .dBInstanceClass(DB_INSTANCE_CLASS_DEFAULT)
+                .build();
+        final ResourceModel desiredModel = RESOURCE_MODEL_BLDR()
+                .dBInstanceClass(DB_INSTANCE_CLASS_DEFAULT)
+                .backupRetentionPeriod(BACKUP_RETENTION_PERIOD_DEFAULT + 1)
+                .build();
+        final ModifyDbInstanceRequest request = Translator.modifyDbInstanceRequest(previousModel, desiredModel, false);
+        Assert.assertEquals(request.backupRetentionPeriod(), Integer.valueOf(BACKUP_RETENTION_PERIOD_DEFAULT + 1));
+        Assert.assertNull(request.dbInstanceClass());
+        Assert.assertNull(request.allocatedStorage());
+        Assert.assertNull(request.iops());
+        Assert.assertNull(request.engineVersion());
+        Assert.assertNull(request.cloudwatchLogsExportConfiguration());
+        Assert.assertEquals(request.dbInstanceIdentifier(), DB_INSTANCE_IDENTIFIER_NON_EMPTY);
+    }
+
+    @Test
+    public void test_modifyDbInstanceRequest_NoPreviousModel_FullState() {
+        final ResourceModel desiredModel = RESOURCE_MODEL_BLDR().build();
+        final ModifyDbInstanceRequest request = Translator.modifyDbInstanceRequest(null, desiredModel, false);
+        Assert.assertEquals(request.allocatedStorage(), ALLOCATED_STORAGE);
+        Assert.assertEquals(request.engineVersion(), ENGINE_VERSION_MYSQL_56);
+        Assert.assertEquals(request.iops(), IOPS_DEFAULT);
+    }
+
+    @Test
+    public void test_isDbInstanceModified_TagsAndRolesOnly() {
+        final ResourceModel previousModel = RESOURCE_MODEL_BLDR()
+                .tags(TAG_LIST)
+                .associatedRoles(ASSOCIATED_ROLES)
+                .build();
+        final ResourceModel desiredModel = RESOURCE_MODEL_BLDR()
+                .tags(TAG_LIST_ALTER)
+                .associatedRoles(ASSOCIATED_ROLES_ALTER)
+                .build();
+        Assert.assertFalse(Translator.isDbInstanceModified(previousModel, desiredModel));
+    }
+
+    @Test
+    public void test_isDbInstanceModified_AttributeChanged() {
+        final ResourceModel previousModel = RESOURCE_MODEL_BLDR()
+                .engineVersion(ENGINE_VERSION_MYSQL_56)
+                .build();
+        final ResourceModel desiredModel = RESOURCE_MODEL_BLDR()
+                .engineVersion(ENGINE_VERSION_MYSQL_80)
+                .build();
+        Assert.assertTrue(Translator.isDbInstanceModified(previousModel, desiredModel));
+    }
+
+    @Test
+    public void test_modifyDbInstanceAfterCreateRequest_ReadReplica() {
+        final ResourceModel model = RESOURCE_MODEL_BLDR()
+                .sourceDBInstanceIdentifier(SOURCE_DB_INSTANCE_IDENTIFIER_NON_EMPTY)
+                .dBParameterGroupName(DB_PARAMETER_GROUP_NAME_DEFAULT)
+                .dBSecurityGroups(Collections.singletonList(DB_SECURITY_GROUP_DEFAULT))
+                .iops(IOPS_DEFAULT)
+                .build();
+        final ModifyDbInstanceRequest request = Translator.modifyDbInstanceAfterCreateRequest(model);
+        Assert.assertNull(request.dbParameterGroupName());
+        Assert.assertNull(request.iops());
+        Assert.assertEquals(Collections.singletonList(DB_SECURITY_GROUP_DEFAULT), request.dbSecurityGroups());
+    }
+
+    @Test
+    public void test_isModifyAfterCreateRequired_RestoreFromSnapshot() {
+        final ResourceModel model = RESOURCE_MODEL_BAREBONE_BLDR()
+                .dBSnapshotIdentifier(DB_SNAPSHOT_IDENTIFIER_NON_EMPTY)
+                .dBParameterGroupName(DB_PARAMETER_GROUP_NAME_DEFAULT)
+                .build();
+        Assert.assertFalse(Translator.isModifyAfterCreateRequired(model));
+        model.setMonitoringInterval(MONITORING_INTERVAL_DEFAULT);
+        Assert.assertTrue(Translator.isModifyAfterCreateRequired(model));
+    }
+
+    @Test
+    public void test_isModifyAfterCreateRequired_CreateNewInstance() {
+        final ResourceModel model = RESOURCE_MODEL_BAREBONE_BLDR()
+                .allocatedStorage(ALLOCATED_STORAGE.toString())
+                .build();
+        Assert.assertFalse(Translator.isModifyAfterCreateRequired(model));
+        model.setCACertificateIdentifier(CA_CERTIFICATE_IDENTIFIER_NON_EMPTY);
+        Assert.assertTrue(Translator.isModifyAfterCreateRequired(model));
+    }
+
+    @Test
+    public void test_canDeferDbInstanceModifications_InstanceClass() {
+        final ResourceModel previousModel = RESOURCE_MODEL_BLDR().build();
+        final ResourceModel desiredModel = RESOURCE_MODEL_BLDR()
+                .dBInstanceClass(DB_INSTANCE_CLASS_ALTER)
+                .build();
+        Assert.assertTrue(Translator.canDeferDbInstanceModifications(previousModel, desiredModel));
+        Assert.assertFalse(Translator.isDbInstanceImmediatelyModified(previousModel, desiredModel));
+    }
+
+    @Test
+    public void test_canDeferDbInstanceModifications_EngineVersionWithParameterGroup() {
+        final ResourceModel previousModel = RESOURCE_MODEL_BLDR()
+                .engineVersion(ENGINE_VERSION_MYSQL_56)
+                .build();
+        final ResourceModel desiredModel = RESOURCE_MODEL_BLDR()
+                .engineVersion(ENGINE_VERSION_MYSQL_80)
+                .dBParameterGroupName(DB_PARAMETER_GROUP_NAME_ALTER)
+                .build();
+        Assert.assertFalse(Translator.canDeferDbInstanceModifications(previousModel, desiredModel));
+    }
 }
@@ -2,7 +2,9 @@ package software.amazon.rds.dbinstance;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -10,6 +12,7 @@ import static org.mockito.Mockito.when;
 
 import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
@@ -17,10 +20,13 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.google.common.collect.ImmutableList;
+import junit.framework.Assert;
 import lombok.Getter;
 import software.amazon.awssdk.services.ec2.Ec2Client;
 import software.amazon.awssdk.services.ec2.model.DescribeSecurityGroupsRequest;
@@ -45,6 +51,7 @@ import software.amazon.awssdk.services.rds.model.DescribeDbParameterGroupsReques
 import software.amazon.awssdk.services.rds.model.DescribeDbParameterGroupsResponse;
 import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
 import software.amazon.awssdk.services.rds.model.ModifyDbInstanceResponse;
+import software.amazon.awssdk.services.rds.model.PendingModifiedValues;
 import software.amazon.awssdk.services.rds.model.RebootDbInstanceRequest;
 import software.amazon.awssdk.services.rds.model.RebootDbInstanceResponse;
 import software.amazon.awssdk.services.rds.model.RemoveRoleFromDbInstanceRequest;
@@ -126,8 +133,164 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 expectSuccess()
         );
 
-        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client()).modifyDBInstance(any(ModifyDbInstanceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ModifyInstanceClass_StabilizesOnceApplied() {
+        when(rdsProxy.client().modifyDBInstance(any(ModifyDbInstanceRequest.class))).thenReturn(ModifyDbInstanceResponse.builder().build());
+
+        final Queue<DBInstance> transitions = new ConcurrentLinkedQueue<>();
+        // The modification has not been picked up yet.
+        transitions.add(DB_INSTANCE_ACTIVE);
+        transitions.add(DB_INSTANCE_ACTIVE.toBuilder()
+                .dbInstanceStatus(DB_INSTANCE_STATUS_MODIFYING)
+                .pendingModifiedValues(PendingModifiedValues.builder()
+                        .dbInstanceClass(DB_INSTANCE_CLASS_ALTER)
+                        .build())
+                .build());
+        transitions.add(DB_INSTANCE_ACTIVE.toBuilder()
+                .dbInstanceClass(DB_INSTANCE_CLASS_ALTER)
+                .build());
+
+        final CallbackContext context = new CallbackContext();
+        context.setRebooted(true);
+        context.setUpdatedRoles(true);
+
+        test_handleRequest_base(
+                context,
+                transitions::remove,
+                () -> RESOURCE_MODEL_BLDR().dBInstanceClass(DB_INSTANCE_CLASS_DEFAULT).build(),
+                () -> RESOURCE_MODEL_BLDR().dBInstanceClass(DB_INSTANCE_CLASS_ALTER).build(),
+                expectSuccess()
+        );
+
+        verify(rdsProxy.client()).modifyDBInstance(any(ModifyDbInstanceRequest.class));
+        verify(rdsProxy.client(), times(3)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_AddStorageToStorageFullInstance_WaitsForTheStatusToMove() {
+        when(rdsProxy.client().modifyDBInstance(any(ModifyDbInstanceRequest.class))).thenReturn(ModifyDbInstanceResponse.builder().build());
+
+        final Queue<DBInstance> transitions = new ConcurrentLinkedQueue<>();
+        // The storage increase has not been picked up yet.
+        transitions.add(DB_INSTANCE_ACTIVE.toBuilder()
+                .dbInstanceStatus(DBInstanceStatus.StorageFull.toString())
+                .build());
+        transitions.add(DB_INSTANCE_ACTIVE.toBuilder()
+                .dbInstanceStatus(DB_INSTANCE_STATUS_MODIFYING)
+                .pendingModifiedValues(PendingModifiedValues.builder()
+                        .allocatedStorage(ALLOCATED_STORAGE_INCR)
+                        .build())
+                .build());
+        transitions.add(DB_INSTANCE_ACTIVE.toBuilder()
+                .allocatedStorage(ALLOCATED_STORAGE_INCR)
+                .build());
+
+        final CallbackContext context = new CallbackContext();
+        context.setRebooted(true);
+        context.setUpdatedRoles(true);
+
+        test_handleRequest_base(
+                context,
+                transitions::remove,
+                () -> RESOURCE_MODEL_BLDR().allocatedStorage(ALLOCATED_STORAGE.toString()).build(),
+                () -> RESOURCE_MODEL_BLDR().allocatedStorage(ALLOCATED_STORAGE_INCR.toString()).build(),
+                expectSuccess()
+        );
+
         verify(rdsProxy.client()).modifyDBInstance(any(ModifyDbInstanceRequest.class));
+        verify(rdsProxy.client(), times(3)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_StorageFullInstance_UnrelatedModification_FailsFast() {
+        when(rdsProxy.client().modifyDBInstance(any(ModifyDbInstanceRequest.class))).thenReturn(ModifyDbInstanceResponse.builder().build());
+
+        final CallbackContext context = new CallbackContext();
+        context.setRebooted(true);
+        context.setUpdatedRoles(true);
+
+        test_handleRequest_base(
+                context,
+                () -> DB_INSTANCE_ACTIVE.toBuilder()
+                        .dbInstanceStatus(DBInstanceStatus.StorageFull.toString())
+                        .build(),
+                () -> RESOURCE_MODEL_BLDR().dBInstanceClass(DB_INSTANCE_CLASS_DEFAULT).build(),
+                () -> RESOURCE_MODEL_BLDR().dBInstanceClass(DB_INSTANCE_CLASS_ALTER).build(),
+                expectFailed(HandlerErrorCode.ServiceLimitExceeded)
+        );
+
+        verify(rdsProxy.client()).modifyDBInstance(any(ModifyDbInstanceRequest.class));
+        verify(rdsProxy.client(), times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ApplyImmediatelyDisabled_DefersInstanceClassChange() {
+        final DBInstance dbInstancePendingClassChange = DB_INSTANCE_ACTIVE.toBuilder()
+                .pendingModifiedValues(PendingModifiedValues.builder()
+                        .dbInstanceClass(DB_INSTANCE_CLASS_ALTER)
+                        .build())
+                .build();
+        when(rdsProxy.client().modifyDBInstance(any(ModifyDbInstanceRequest.class))).thenReturn(ModifyDbInstanceResponse.builder().build());
+
+        final CallbackContext context = new CallbackContext();
+        context.setRebooted(true);
+        context.setUpdatedRoles(true);
+
+        test_handleRequest_base(
+                context,
+                () -> dbInstancePendingClassChange,
+                () -> RESOURCE_MODEL_BLDR().build(),
+                () -> RESOURCE_MODEL_BLDR().applyImmediately(false).dBInstanceClass(DB_INSTANCE_CLASS_ALTER).build(),
+                expectSuccess()
+        );
+
+        final ArgumentCaptor<ModifyDbInstanceRequest> captor = ArgumentCaptor.forClass(ModifyDbInstanceRequest.class);
+        verify(rdsProxy.client(), times(1)).modifyDBInstance(captor.capture());
+        Assert.assertEquals(Boolean.FALSE, captor.getValue().applyImmediately());
+        Assert.assertEquals(DB_INSTANCE_CLASS_ALTER, captor.getValue().dbInstanceClass());
+        verify(rdsProxy.client(), times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ApplyImmediatelyDisabled_AppliesImmediatePartFirst() {
+        final DBInstance dbInstancePendingClassChange = DB_INSTANCE_ACTIVE.toBuilder()
+                .pendingModifiedValues(PendingModifiedValues.builder()
+                        .dbInstanceClass(DB_INSTANCE_CLASS_ALTER)
+                        .build())
+                .build();
+        when(rdsProxy.client().modifyDBInstance(any(ModifyDbInstanceRequest.class))).thenReturn(ModifyDbInstanceResponse.builder().build());
+
+        final CallbackContext context = new CallbackContext();
+        context.setRebooted(true);
+        context.setUpdatedRoles(true);
+
+        test_handleRequest_base(
+                context,
+                () -> dbInstancePendingClassChange,
+                () -> RESOURCE_MODEL_BLDR().build(),
+                () -> RESOURCE_MODEL_BLDR()
+                        .applyImmediately(false)
+                        .dBInstanceClass(DB_INSTANCE_CLASS_ALTER)
+                        .preferredBackupWindow(PREFERRED_BACKUP_WINDOW_NON_EMPTY)
+                        .build(),
+                expectSuccess()
+        );
+
+        final ArgumentCaptor<ModifyDbInstanceRequest> captor = ArgumentCaptor.forClass(ModifyDbInstanceRequest.class);
+        verify(rdsProxy.client(), times(2)).modifyDBInstance(captor.capture());
+        final ModifyDbInstanceRequest immediateRequest = captor.getAllValues().get(0);
+        Assert.assertEquals(Boolean.TRUE, immediateRequest.applyImmediately());
+        Assert.assertEquals(PREFERRED_BACKUP_WINDOW_NON_EMPTY, immediateRequest.preferredBackupWindow());
+        Assert.assertNull(immediateRequest.dbInstanceClass());
+        final ModifyDbInstanceRequest deferredRequest = captor.getAllValues().get(1);
+        Assert.assertEquals(Boolean.FALSE, deferredRequest.applyImmediately());
+        Assert.assertEquals(DB_INSTANCE_CLASS_ALTER, deferredRequest.dbInstanceClass());
+        Assert.assertNull(deferredRequest.preferredBackupWindow());
+        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 
     @Test
@@ -155,6 +318,32 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 
+    @Test
+    public void handleRequest_NoModifiableChanges_SkipsModify() {
+        final AddTagsToResourceResponse addTagsToResourceResponse = AddTagsToResourceResponse.builder().build();
+        when(rdsProxy.client().addTagsToResource(any(AddTagsToResourceRequest.class))).thenReturn(addTagsToResourceResponse);
+
+        final CallbackContext context = new CallbackContext();
+        context.setUpdated(false);
+        context.setRebooted(true);
+        context.setUpdatedRoles(true);
+
+        test_handleRequest_base(
+                context,
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .previousResourceTags(Collections.emptyMap())
+                        .desiredResourceTags(Translator.translateTagsToRequest(TAG_LIST)),
+                () -> DB_INSTANCE_ACTIVE,
+                () -> RESOURCE_MODEL_BLDR().build(),
+                () -> RESOURCE_MODEL_BLDR().build(),
+                expectSuccess()
+        );
+
+        verify(rdsProxy.client(), never()).modifyDBInstance(any(ModifyDbInstanceRequest.class));
+        verify(rdsProxy.client()).addTagsToResource(any(AddTagsToResourceRequest.class));
+        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+
     @Test
     public void handleRequest_SuccessTagsRemoveOnly() {
         final RemoveTagsFromResourceResponse removeTagsFromResourceResponse = RemoveTagsFromResourceResponse.builder().build();
@@ -245,7 +434,116 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         );
 
         verify(rdsProxy.client()).removeRoleFromDBInstance(any(RemoveRoleFromDbInstanceRequest.class));
-        verify(rdsProxy.client()).addRoleToDBInstance(any(AddRoleToDbInstanceRequest.class));
+        verify(rdsProxy.client(), times(2)).addRoleToDBInstance(any(AddRoleToDbInstanceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_RemoveRolesOnly() {
+        final Queue<DBInstance> transitions = new ConcurrentLinkedQueue<>(
+                computeAssociatedRoleTransitions(DB_INSTANCE_ACTIVE, ASSOCIATED_ROLES, Collections.emptyList())
+        );
+        // We expect describeDBInstances to be called 2 more times: for tag mutation and for the final resource fetch.
+        transitions.add(DB_INSTANCE_ACTIVE.toBuilder().associatedRoles(Collections.emptyList()).build());
+        transitions.add(DB_INSTANCE_ACTIVE.toBuilder().associatedRoles(Collections.emptyList()).build());
+
+        final RemoveRoleFromDbInstanceResponse removeRoleFromDBInstanceResponse = RemoveRoleFromDbInstanceResponse.builder().build();
+        when(rdsProxy.client().removeRoleFromDBInstance(any(RemoveRoleFromDbInstanceRequest.class))).thenReturn(removeRoleFromDBInstanceResponse);
+
+        final CallbackContext context = new CallbackContext();
+        context.setUpdated(true);
+        context.setRebooted(true);
+
+        test_handleRequest_base(
+                context,
+                transitions::remove,
+                () -> RESOURCE_MODEL_BLDR().build(),
+                () -> RESOURCE_MODEL_BLDR().associatedRoles(Collections.emptyList()).build(),
+                expectSuccess()
+        );
+
+        verify(rdsProxy.client()).removeRoleFromDBInstance(any(RemoveRoleFromDbInstanceRequest.class));
+        verify(rdsProxy.client(), never()).addRoleToDBInstance(any(AddRoleToDbInstanceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_AddRolesOnly() {
+        final Queue<DBInstance> transitions = new ConcurrentLinkedQueue<>(
+                computeAssociatedRoleTransitions(DB_INSTANCE_ACTIVE, Collections.emptyList(), ASSOCIATED_ROLES_ALTER)
+        );
+        // We expect describeDBInstances to be called 2 more times: for tag mutation and for the final resource fetch.
+        transitions.add(DB_INSTANCE_ACTIVE.toBuilder()
+                .associatedRoles(Translator.translateAssociatedRolesToSdk(ASSOCIATED_ROLES_ALTER))
+                .build());
+        transitions.add(DB_INSTANCE_ACTIVE.toBuilder()
+                .associatedRoles(Translator.translateAssociatedRolesToSdk(ASSOCIATED_ROLES_ALTER))
+                .build());
+
+        final AddRoleToDbInstanceResponse addRoleToDBInstanceResponse = AddRoleToDbInstanceResponse.builder().build();
+        when(rdsProxy.client().addRoleToDBInstance(any(AddRoleToDbInstanceRequest.class))).thenReturn(addRoleToDBInstanceResponse);
+
+        final CallbackContext context = new CallbackContext();
+        context.setUpdated(true);
+        context.setRebooted(true);
+
+        test_handleRequest_base(
+                context,
+                transitions::remove,
+                () -> RESOURCE_MODEL_BLDR().associatedRoles(Collections.emptyList()).build(),
+                () -> RESOURCE_MODEL_BLDR().associatedRoles(ASSOCIATED_ROLES_ALTER).build(),
+                expectSuccess()
+        );
+
+        verify(rdsProxy.client(), never()).removeRoleFromDBInstance(any(RemoveRoleFromDbInstanceRequest.class));
+        verify(rdsProxy.client(), times(2)).addRoleToDBInstance(any(AddRoleToDbInstanceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_SwitchRoleFeature() {
+        final List<DBInstanceRole> switchedRoles = ImmutableList.of(
+                DBInstanceRole.builder()
+                        .featureName(ASSOCIATED_ROLE_NAME + "-foo")
+                        .roleArn(ASSOCIATED_ROLE_ARN)
+                        .build()
+        );
+        // The role has to disappear before it gets associated again with the new feature.
+        final Queue<DBInstance> transitions = new ConcurrentLinkedQueue<>(
+                computeAssociatedRoleTransitions(DB_INSTANCE_ACTIVE, ASSOCIATED_ROLES, switchedRoles)
+        );
+        // We expect describeDBInstances to be called 2 more times: for tag mutation and for the final resource fetch.
+        transitions.add(DB_INSTANCE_ACTIVE.toBuilder()
+                .associatedRoles(Translator.translateAssociatedRolesToSdk(switchedRoles))
+                .build());
+        transitions.add(DB_INSTANCE_ACTIVE.toBuilder()
+                .associatedRoles(Translator.translateAssociatedRolesToSdk(switchedRoles))
+                .build());
+
+        final RemoveRoleFromDbInstanceResponse removeRoleFromDBInstanceResponse = RemoveRoleFromDbInstanceResponse.builder().build();
+        when(rdsProxy.client().removeRoleFromDBInstance(any(RemoveRoleFromDbInstanceRequest.class))).thenReturn(removeRoleFromDBInstanceResponse);
+        final AddRoleToDbInstanceResponse addRoleToDBInstanceResponse = AddRoleToDbInstanceResponse.builder().build();
+        when(rdsProxy.client().addRoleToDBInstance(any(AddRoleToDbInstanceRequest.class))).thenReturn(addRoleToDBInstanceResponse);
+
+        final CallbackContext context = new CallbackContext();
+        context.setUpdated(true);
+        context.setRebooted(true);
+
+        test_handleRequest_base(
+                context,
+                transitions::remove,
+                () -> RESOURCE_MODEL_BLDR().build(),
+                () -> RESOURCE_MODEL_BLDR().associatedRoles(switchedRoles).build(),
+                expectSuccess()
+        );
+
+        final InOrder inOrder = inOrder(rdsProxy.client());
+        final ArgumentCaptor<RemoveRoleFromDbInstanceRequest> removeCaptor = ArgumentCaptor.forClass(RemoveRoleFromDbInstanceRequest.class);
+        inOrder.verify(rdsProxy.client()).removeRoleFromDBInstance(removeCaptor.capture());
+        final ArgumentCaptor<AddRoleToDbInstanceRequest> addCaptor = ArgumentCaptor.forClass(AddRoleToDbInstanceRequest.class);
+        inOrder.verify(rdsProxy.client()).addRoleToDBInstance(addCaptor.capture());
+
+        Assert.assertEquals(ASSOCIATED_ROLE_ARN, removeCaptor.getValue().roleArn());
+        Assert.assertEquals(ASSOCIATED_ROLE_NAME, removeCaptor.getValue().featureName());
+        Assert.assertEquals(ASSOCIATED_ROLE_ARN, addCaptor.getValue().roleArn());
+        Assert.assertEquals(ASSOCIATED_ROLE_NAME + "-foo", addCaptor.getValue().featureName());
     }
 
     @Test
@@ -300,6 +598,10 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 computeAssociatedRoleTransitions(DB_INSTANCE_ACTIVE, ASSOCIATED_ROLES, ASSOCIATED_ROLES_ALTER)
         );
 
+        final RemoveTagsFromResourceResponse removeTagsFromResourceResponse = RemoveTagsFromResourceResponse.builder().build();
+        when(rdsProxy.client().removeTagsFromResource(any(RemoveTagsFromResourceRequest.class))).thenReturn(removeTagsFromResourceResponse);
+        final AddTagsToResourceResponse addTagsToResourceResponse = AddTagsToResourceResponse.builder().build();
+        when(rdsProxy.client().addTagsToResource(any(AddTagsToResourceRequest.class))).thenReturn(addTagsToResourceResponse);
         final AddRoleToDbInstanceResponse addRoleToDBInstanceResponse = AddRoleToDbInstanceResponse.builder().build();
         when(rdsProxy.client().addRoleToDBInstance(any(AddRoleToDbInstanceRequest.class))).thenReturn(addRoleToDBInstanceResponse);
         final RemoveRoleFromDbInstanceResponse removeRoleFromDBInstanceResponse = RemoveRoleFromDbInstanceResponse.builder().build();
@@ -312,6 +614,9 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         test_handleRequest_base(
                 context,
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .previousResourceTags(Translator.translateTagsToRequest(TAG_LIST))
+                        .desiredResourceTags(Translator.translateTagsToRequest(TAG_LIST_ALTER)),
                 () -> {
                     if (!transitions.isEmpty()) {
                         return transitions.remove();
@@ -323,6 +628,8 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 expectFailed(HandlerErrorCode.InternalFailure)
         );
 
+        verify(rdsProxy.client()).addTagsToResource(any(AddTagsToResourceRequest.class));
+        verify(rdsProxy.client()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
         verify(rdsProxy.client(), times(2)).addRoleToDBInstance(any(AddRoleToDbInstanceRequest.class));
         verify(rdsProxy.client(), times(1)).removeRoleFromDBInstance(any(RemoveRoleFromDbInstanceRequest.class));
         verify(rdsProxy.client(), times(5)).describeDBInstances(any(DescribeDbInstancesRequest.class));
@@ -334,12 +641,11 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         final Queue<DBInstance> transitions = new ConcurrentLinkedQueue<>(
                 computeAssociatedRoleTransitions(DB_INSTANCE_ACTIVE, ASSOCIATED_ROLES, ASSOCIATED_ROLES_ALTER)
         );
-        // We expect describeDBInstances to be called 3 more times: for tag mutation, reboot check and the final resource fetch.
-        for (int i = 0; i < 3; i++) {
-            transitions.add(DB_INSTANCE_ACTIVE.toBuilder()
-                    .associatedRoles(Translator.translateAssociatedRolesToSdk(ASSOCIATED_ROLES_ALTER))
-                    .build());
-        }
+        // Tag mutation reuses the snapshot from the last role stabilization, so we expect describeDBInstances
+        // to be called only once more: for the final resource fetch.
+        transitions.add(DB_INSTANCE_ACTIVE.toBuilder()
+                .associatedRoles(Translator.translateAssociatedRolesToSdk(ASSOCIATED_ROLES_ALTER))
+                .build());
 
         final RemoveTagsFromResourceResponse removeTagsFromResourceResponse = RemoveTagsFromResourceResponse.builder().build();
         when(rdsProxy.client().removeTagsFromResource(any(RemoveTagsFromResourceRequest.class))).thenReturn(removeTagsFromResourceResponse);
@@ -369,7 +675,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         verify(rdsProxy.client()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
         verify(rdsProxy.client(), times(2)).addRoleToDBInstance(any(AddRoleToDbInstanceRequest.class));
         verify(rdsProxy.client()).removeRoleFromDBInstance(any(RemoveRoleFromDbInstanceRequest.class));
-        verify(rdsProxy.client(), times(6)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(5)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 
     @Test
@@ -377,7 +683,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         final DBInstance dbInstancePendingReboot = DB_INSTANCE_ACTIVE.toBuilder().dbParameterGroups(
                 ImmutableList.of(DBParameterGroupStatus.builder()
                         .dbParameterGroupName(DB_PARAMETER_GROUP_NAME_DEFAULT)
-                        .parameterApplyStatus(UpdateHandler.PENDING_REBOOT_STATUS)
+                        .parameterApplyStatus(RebootPlanner.PENDING_REBOOT_STATUS)
                         .build())
         ).build();
 
@@ -399,18 +705,24 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         );
 
         verify(rdsProxy.client()).rebootDBInstance(any(RebootDbInstanceRequest.class));
-        verify(rdsProxy.client(), times(3)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 
     @Test
     public void handleRequest_SetParameterGroupName() {
         final DescribeDbParameterGroupsResponse describeDbParameterGroupsResponse = DescribeDbParameterGroupsResponse.builder()
-                .dbParameterGroups(ImmutableList.of(DBParameterGroup.builder().build()))
+                .dbParameterGroups(ImmutableList.of(DBParameterGroup.builder()
+                        .dbParameterGroupFamily(DB_PARAMETER_GROUP_FAMILY_MYSQL_80)
+                        .build()))
                 .build();
         when(rdsProxy.client().describeDBParameterGroups(any(DescribeDbParameterGroupsRequest.class))).thenReturn(describeDbParameterGroupsResponse);
 
         final DescribeDbEngineVersionsResponse describeDbEngineVersionsResponse = DescribeDbEngineVersionsResponse.builder()
-                .dbEngineVersions(DBEngineVersion.builder().build())
+                .dbEngineVersions(DBEngineVersion.builder()
+                        .engine(ENGINE_MYSQL)
+                        .engineVersion(ENGINE_VERSION_MYSQL_80)
+                        .dbParameterGroupFamily(DB_PARAMETER_GROUP_FAMILY_MYSQL_80)
+                        .build())
                 .build();
         when(rdsProxy.client().describeDBEngineVersions(any(DescribeDbEngineVersionsRequest.class))).thenReturn(describeDbEngineVersionsResponse);
 
@@ -438,6 +750,53 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         verify(rdsProxy.client()).describeDBParameterGroups(any(DescribeDbParameterGroupsRequest.class));
         verify(rdsProxy.client()).describeDBEngineVersions(any(DescribeDbEngineVersionsRequest.class));
+        verify(rdsProxy.client(), times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_SetParameterGroupName_ReusesEngineVersionFamilyIndex() {
+        final DescribeDbParameterGroupsResponse describeDbParameterGroupsResponse = DescribeDbParameterGroupsResponse.builder()
+                .dbParameterGroups(ImmutableList.of(DBParameterGroup.builder()
+                        .dbParameterGroupFamily(DB_PARAMETER_GROUP_FAMILY_MYSQL_80)
+                        .build()))
+                .build();
+        when(rdsProxy.client().describeDBParameterGroups(any(DescribeDbParameterGroupsRequest.class))).thenReturn(describeDbParameterGroupsResponse);
+
+        final DescribeDbEngineVersionsResponse describeDbEngineVersionsResponse = DescribeDbEngineVersionsResponse.builder()
+                .dbEngineVersions(DBEngineVersion.builder()
+                        .engine(ENGINE_MYSQL)
+                        .engineVersion(ENGINE_VERSION_MYSQL_80)
+                        .dbParameterGroupFamily(DB_PARAMETER_GROUP_FAMILY_MYSQL_80)
+                        .build())
+                .build();
+        when(rdsProxy.client().describeDBEngineVersions(any(DescribeDbEngineVersionsRequest.class))).thenReturn(describeDbEngineVersionsResponse);
+
+        final ResourceModel desiredModel = RESOURCE_MODEL_BLDR()
+                .dBParameterGroupName(DB_PARAMETER_GROUP_NAME_ALTER)
+                .engineVersion(ENGINE_VERSION_MYSQL_80)
+                .build();
+        final ResourceModel previousModel = RESOURCE_MODEL_BLDR()
+                .dBParameterGroupName(DB_PARAMETER_GROUP_NAME_DEFAULT)
+                .engineVersion(ENGINE_VERSION_MYSQL_56)
+                .build();
+
+        // 2 independent rollbacks served by the same handler
+        for (int i = 0; i < 2; i++) {
+            final CallbackContext context = new CallbackContext();
+            context.setUpdated(true); // this is an emulation of a re-entrance
+
+            test_handleRequest_base(
+                    context,
+                    ResourceHandlerRequest.<ResourceModel>builder().rollback(true),
+                    () -> DB_INSTANCE_ACTIVE,
+                    () -> previousModel,
+                    () -> desiredModel,
+                    expectSuccess()
+            );
+        }
+
+        verify(rdsProxy.client(), times(2)).describeDBParameterGroups(any(DescribeDbParameterGroupsRequest.class));
+        verify(rdsProxy.client(), times(1)).describeDBEngineVersions(any(DescribeDbEngineVersionsRequest.class));
         verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 
@@ -465,7 +824,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 expectSuccess()
         );
 
-        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 
     @Test
@@ -498,7 +857,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         );
 
         verify(rdsProxy.client()).describeDBParameterGroups(any(DescribeDbParameterGroupsRequest.class));
-        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 
     @Test
@@ -537,7 +896,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         verify(rdsProxy.client()).describeDBParameterGroups(any(DescribeDbParameterGroupsRequest.class));
         verify(rdsProxy.client()).describeDBEngineVersions(any(DescribeDbEngineVersionsRequest.class));
-        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 
     @Test
@@ -563,6 +922,27 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         );
 
         verify(ec2Proxy.client()).describeSecurityGroups(any(DescribeSecurityGroupsRequest.class));
-        verify(rdsProxy.client(), times(3)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_SetDefaultVpcId_ReusesResolvedSecurityGroup() {
+        final CallbackContext context = new CallbackContext();
+        context.setUpdated(true); // this is an emulation of a re-entrance
+        context.setDefaultSecurityGroupResolved(true);
+        context.setDefaultSecurityGroupId(DB_SECURITY_GROUP_ID);
+
+        test_handleRequest_base(
+                context,
+                () -> DB_INSTANCE_ACTIVE,
+                () -> RESOURCE_MODEL_BLDR().build(),
+                () -> RESOURCE_MODEL_BLDR()
+                        .vPCSecurityGroups(Collections.emptyList())
+                        .build(),
+                expectSuccess()
+        );
+
+        verify(ec2Proxy.client(), never()).describeSecurityGroups(any(DescribeSecurityGroupsRequest.class));
+        verify(rdsProxy.client(), times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 }
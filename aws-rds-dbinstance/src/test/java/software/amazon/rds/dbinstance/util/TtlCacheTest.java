@@ -0,0 +1,62 @@
+package software.amazon.rds.dbinstance.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class TtlCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    public void test_computeIfAbsent_HitsWithinTtl() {
+        final TtlCache<String, String> cache = new TtlCache<>(Duration.ofMinutes(1), 10, clock::get);
+        final AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.computeIfAbsent("vpc-1", key -> "sg-" + loads.incrementAndGet())).isEqualTo("sg-1");
+        clock.addAndGet(Duration.ofSeconds(59).toMillis());
+        assertThat(cache.computeIfAbsent("vpc-1", key -> "sg-" + loads.incrementAndGet())).isEqualTo("sg-1");
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    public void test_computeIfAbsent_ReloadsExpiredEntry() {
+        final TtlCache<String, String> cache = new TtlCache<>(Duration.ofMinutes(1), 10, clock::get);
+        final AtomicInteger loads = new AtomicInteger();
+
+        cache.computeIfAbsent("vpc-1", key -> "sg-" + loads.incrementAndGet());
+        clock.addAndGet(Duration.ofMinutes(1).toMillis());
+
+        assertThat(cache.computeIfAbsent("vpc-1", key -> "sg-" + loads.incrementAndGet())).isEqualTo("sg-2");
+        assertThat(cache.getMisses()).isEqualTo(2);
+    }
+
+    @Test
+    public void test_computeIfAbsent_DoesNotCacheNull() {
+        final TtlCache<String, String> cache = new TtlCache<>(Duration.ofMinutes(1), 10, clock::get);
+
+        assertThat(cache.computeIfAbsent("vpc-1", key -> null)).isNull();
+        assertThat(cache.get("vpc-1")).isEmpty();
+    }
+
+    @Test
+    public void test_put_EvictsLeastRecentlyUsed() {
+        final TtlCache<String, String> cache = new TtlCache<>(Duration.ofMinutes(1), 2, clock::get);
+
+        cache.put("vpc-1", "sg-1");
+        cache.put("vpc-2", "sg-2");
+        cache.get("vpc-1");
+        cache.put("vpc-3", "sg-3");
+
+        assertThat(cache.get("vpc-1")).contains("sg-1");
+        assertThat(cache.get("vpc-2")).isEmpty();
+        assertThat(cache.get("vpc-3")).contains("sg-3");
+    }
+}
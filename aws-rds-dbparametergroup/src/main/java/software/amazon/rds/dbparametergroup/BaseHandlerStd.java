@@ -1,14 +1,25 @@
 package software.amazon.rds.dbparametergroup;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import com.amazonaws.util.StringUtils;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.exception.RetryableException;
 import software.amazon.awssdk.services.rds.RdsClient;
@@ -16,11 +27,15 @@ import software.amazon.awssdk.services.rds.model.DbParameterGroupAlreadyExistsEx
 import software.amazon.awssdk.services.rds.model.DbParameterGroupNotFoundException;
 import software.amazon.awssdk.services.rds.model.DbParameterGroupQuotaExceededException;
 import software.amazon.awssdk.services.rds.model.DescribeDbParametersResponse;
+import software.amazon.awssdk.services.rds.model.EngineDefaults;
 import software.amazon.awssdk.services.rds.model.InvalidDbParameterGroupStateException;
 import software.amazon.awssdk.services.rds.model.Parameter;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
 import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
@@ -38,6 +53,10 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     protected static int MAX_PARAMETERS_PER_REQUEST = 20;
     protected static final Constant CONSTANT = Constant.of().timeout(Duration.ofMinutes(120L))
             .delay(Duration.ofSeconds(30L)).build();
+    // outlives CALLBACK_DELAY_SECONDS so that the propagation deadline is hit first
+    protected static final Constant PROPAGATION_CHECK = Constant.of().timeout(Duration.ofSeconds(2L * CALLBACK_DELAY_SECONDS))
+            .delay(Duration.ofSeconds(15L)).build();
+    protected static final BiFunction<ResourceModel, ProxyClient<RdsClient>, ResourceModel> EMPTY_CALL = (model, proxyClient) -> model;
 
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -49,7 +68,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 proxy,
                 request,
                 callbackContext != null ? callbackContext : new CallbackContext(),
-                proxy.newProxy(ClientBuilder::getClient),
+                proxy.newProxy(() -> ClientBuilder.getClient(request.getRegion())),
                 logger
         );
     }
@@ -90,57 +109,184 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         throw new CfnGeneralServiceException(e);
     }
 
+    // The reads outside of a call chain have no progress event to return, so the failure handleException
+    // maps an error to is thrown as the matching exception instead.
+    protected RuntimeException toCfnException(final AwsServiceException e) {
+        final HandlerErrorCode errorCode = handleException(e).getErrorCode();
+        if (errorCode == HandlerErrorCode.Throttling) {
+            return new CfnThrottlingException(e);
+        } else if (errorCode == HandlerErrorCode.NotFound) {
+            return new CfnNotFoundException(e);
+        }
+        return new CfnGeneralServiceException(e);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> applyParameters(final AmazonWebServicesClientProxy proxy,
                                                                             final ProxyClient<RdsClient> proxyClient,
+                                                                            final Map<String, Object> previousParameters,
                                                                             final ResourceModel model,
                                                                             final CallbackContext callbackContext) {
         //isParametersApplied flag for unit testing
         if (callbackContext.isParametersApplied())
             return ProgressEvent.defaultInProgressHandler(callbackContext, NO_CALLBACK_DELAY, model);
 
-        callbackContext.setParametersApplied(true);
-        ProgressEvent<ResourceModel, CallbackContext> progress = ProgressEvent.defaultInProgressHandler(callbackContext, CALLBACK_DELAY_SECONDS, model);
+        // only the removed parameters are reset and only the added or changed ones are modified
+        final Map<String, Object> desiredParameters = Optional.ofNullable(model.getParameters()).orElse(Collections.emptyMap());
+        final Set<String> parametersToReset = Sets.difference(previousParameters.keySet(), desiredParameters.keySet());
+        final Map<String, Object> parametersToModify = Maps.filterEntries(desiredParameters,
+                entry -> !previousParameters.containsKey(entry.getKey()) ||
+                        !String.valueOf(previousParameters.get(entry.getKey())).equals(String.valueOf(entry.getValue())));
 
-        if (model.getParameters().isEmpty()) return progress; //no parameters to be modified
+        if (parametersToReset.isEmpty() && parametersToModify.isEmpty()) { //no parameters to be modified
+            callbackContext.setParametersApplied(true);
+            return ProgressEvent.progress(model, callbackContext);
+        }
 
+        if (!callbackContext.isParametersModified()) {
+            final ProgressEvent<ResourceModel, CallbackContext> progress = modifyParameters(proxy, proxyClient, parametersToReset, parametersToModify, model, callbackContext);
+            if (progress.isFailed()) return progress;
+
+            callbackContext.setParametersModified(true);
+            callbackContext.setPropagationDeadline(Instant.now().plusSeconds(CALLBACK_DELAY_SECONDS).toEpochMilli());
+        }
+
+        return verifyParameters(proxy, proxyClient, parametersToReset, model, callbackContext);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> modifyParameters(final AmazonWebServicesClientProxy proxy,
+                                                                           final ProxyClient<RdsClient> proxyClient,
+                                                                           final Set<String> parametersToReset,
+                                                                           final Map<String, Object> parametersToModify,
+                                                                           final ResourceModel model,
+                                                                           final CallbackContext callbackContext) {
         // check if provided parameter is supported by rds default engine parameters
-        Set<String> paramNames = new HashSet<>(model.getParameters().keySet());
-        final Set<Parameter> params = getTargetDefaultParameters(proxyClient, model);
+        final List<Parameter> params = getTargetDefaultParameters(proxyClient, model, Sets.union(parametersToReset, parametersToModify.keySet()));
 
         // subtract set of found and modified params
+        final Set<String> paramNames = new HashSet<>(parametersToModify.keySet());
         paramNames.removeAll(params.stream().map(Parameter::parameterName).collect(Collectors.toSet()));
         if (!paramNames.isEmpty())
             throw new CfnInvalidRequestException("Invalid / Unsupported DB Parameter: " + paramNames.stream().findFirst().get());
 
-        for (List<Parameter> paramsPartition : Iterables.partition(params, MAX_PARAMETERS_PER_REQUEST)) {  //modify api call is limited to 20 parameter per request
-            progress = proxy.initiate("rds::modify-db-parameter-group", proxyClient, model, callbackContext)
+        int batch = 0;
+        for (List<Parameter> paramsPartition : Iterables.partition(Translator.getParametersToReset(parametersToReset, params), MAX_PARAMETERS_PER_REQUEST)) {  //reset api call is limited to 20 parameter per request
+            final ProgressEvent<ResourceModel, CallbackContext> resetProgress = proxy.initiate("rds::reset-db-parameter-group-" + batch++, proxyClient, model, callbackContext)
+                    .translateToServiceRequest((resourceModel) -> Translator.resetDbParameterGroupRequest(resourceModel, paramsPartition))
+                    .backoffDelay(CONSTANT)
+                    .makeServiceCall((request, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(request, proxyInvocation.client()::resetDBParameterGroup))
+                    .handleError((resetDbParameterGroupRequest, exception, client, resourceModel, ctx) -> handleException(exception))
+                    .progress();
+
+            if (resetProgress.isFailed()) return resetProgress;
+        }
+
+        batch = 0;
+        for (List<Parameter> paramsPartition : Iterables.partition(Translator.getParametersToModify(parametersToModify, params), MAX_PARAMETERS_PER_REQUEST)) {  //modify api call is limited to 20 parameter per request
+            final ProgressEvent<ResourceModel, CallbackContext> modifyProgress = proxy.initiate("rds::modify-db-parameter-group-" + batch++, proxyClient, model, callbackContext)
                     .translateToServiceRequest((resourceModel) -> Translator.modifyDbParameterGroupRequest(resourceModel, paramsPartition))
                     .makeServiceCall((request, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(request, proxyInvocation.client()::modifyDBParameterGroup))
-                    .handleError((describeDbParameterGroupsRequest, exception, client, resourceModel, ctx) -> handleException(exception))
-                    .progress(CALLBACK_DELAY_SECONDS);
+                    .handleError((modifyDbParameterGroupRequest, exception, client, resourceModel, ctx) -> handleException(exception))
+                    .progress();
 
-            if (!progress.isSuccess()) return progress;
+            if (modifyProgress.isFailed()) return modifyProgress;
         }
 
-        return ProgressEvent.progress(progress.getResourceModel(), progress.getCallbackContext());
+        return ProgressEvent.progress(model, callbackContext);
     }
 
-    private Set<Parameter> getTargetDefaultParameters(final ProxyClient<RdsClient> proxyClient, final ResourceModel model) {
+    // Waits for the group to show the new values instead of sleeping for the whole propagation time.
+    private ProgressEvent<ResourceModel, CallbackContext> verifyParameters(final AmazonWebServicesClientProxy proxy,
+                                                                           final ProxyClient<RdsClient> proxyClient,
+                                                                           final Set<String> resetParameters,
+                                                                           final ResourceModel model,
+                                                                           final CallbackContext callbackContext) {
+        return proxy.initiate("rds::verify-db-parameter-group-parameters", proxyClient, model, callbackContext)
+                .translateToServiceRequest(Function.identity())
+                .backoffDelay(PROPAGATION_CHECK)
+                // this skips the call and goes directly to stabilization
+                .makeServiceCall(EMPTY_CALL)
+                .stabilize((request, response, proxyInvocation, resourceModel, context) ->
+                        isParametersPropagated(proxyInvocation, resourceModel, resetParameters, context))
+                // describeUserParameters already throws the exception matching the handler error code of a service error
+                .handleError((request, exception, proxyInvocation, resourceModel, context) -> exception instanceof BaseHandlerException ?
+                        ProgressEvent.defaultFailureHandler(exception, ((BaseHandlerException) exception).getErrorCode()) :
+                        handleException(exception))
+                .done((request, response, proxyInvocation, resourceModel, context) -> {
+                    context.setParametersApplied(true);
+                    return ProgressEvent.progress(resourceModel, context);
+                });
+    }
+
+    // CALLBACK_DELAY_SECONDS stays as an upper bound: past it the parameters are deemed propagated
+    // even if the group does not show them yet, just like after the fixed wait.
+    protected boolean isParametersPropagated(final ProxyClient<RdsClient> proxyClient,
+                                             final ResourceModel model,
+                                             final Set<String> resetParameters,
+                                             final CallbackContext callbackContext) {
+        if (Instant.now().toEpochMilli() >= callbackContext.getPropagationDeadline()) return true;
+
+        final Map<String, Object> userParameters = describeUserParameters(proxyClient, model);
+        return Optional.ofNullable(model.getParameters()).orElse(Collections.emptyMap()).entrySet().stream()
+                .allMatch(entry -> String.valueOf(entry.getValue()).equals(userParameters.get(entry.getKey()))) &&
+                resetParameters.stream().noneMatch(userParameters::containsKey);
+    }
+
+    private List<Parameter> getTargetDefaultParameters(final ProxyClient<RdsClient> proxyClient,
+                                                       final ResourceModel model,
+                                                       final Set<String> parameterNames) {
+        final Map<String, Parameter> metadata = ParameterMetadataCache.get(model.getFamily(), family -> describeEngineDefaultParameters(proxyClient, family));
+        return parameterNames.stream()
+                .map(metadata::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private List<Parameter> describeEngineDefaultParameters(final ProxyClient<RdsClient> proxyClient, final String family) {
+        String marker = null;
+        int depth = 0;
+        final List<Parameter> params = new ArrayList<>();
+        //iterating on all default parameters of the family
+        do {
+            try {
+                final EngineDefaults engineDefaults = proxyClient.injectCredentialsAndInvokeV2(
+                        Translator.describeEngineDefaultParametersRequest(family, marker, RECORDS_PER_PAGE), proxyClient.client()::describeEngineDefaultParameters).engineDefaults();
+                marker = engineDefaults.marker();
+                params.addAll(engineDefaults.parameters());
+            } catch (AwsServiceException e) {
+                throw toCfnException(e);
+            }
+
+        } while (!StringUtils.isNullOrEmpty(marker) && ++depth <= MAX_DEPTH);
+        // a truncated list would be cached for the whole family, so it is never returned
+        if (!StringUtils.isNullOrEmpty(marker)) {
+            throw new CfnGeneralServiceException("describeEngineDefaultParameters: more than " + MAX_DEPTH + " pages for " + family);
+        }
+        return params;
+    }
+
+
+    // Only the parameters changed from the engine defaults are described: one or two pages instead of the whole engine.
+    protected Map<String, Object> describeUserParameters(final ProxyClient<RdsClient> proxyClient, final ResourceModel model) {
         String marker = null;
         int depth = 0;
-        final Set<Parameter> params = new HashSet<>();
-        //iterating on all default parameters to choose the one will be modified
+        final Map<String, Object> params = new HashMap<>();
         do {
             try {
                 final DescribeDbParametersResponse dbParametersResponse = proxyClient.injectCredentialsAndInvokeV2(
-                        Translator.describeDbParameterGroupsRequest(model, marker, RECORDS_PER_PAGE), proxyClient.client()::describeDBParameters);
+                        Translator.describeUserDbParametersRequest(model, marker, RECORDS_PER_PAGE), proxyClient.client()::describeDBParameters);
                 marker = dbParametersResponse.marker();
-                params.addAll(Translator.getParametersToModify(model, dbParametersResponse.parameters())); //Translate and checking if it is modifiable
+                dbParametersResponse.parameters().stream()
+                        .filter(parameter -> parameter.parameterValue() != null)
+                        .forEach(parameter -> params.put(parameter.parameterName(), parameter.parameterValue()));
             } catch (AwsServiceException e) {
-                handleException(e);
+                throw toCfnException(e);
             }
 
-        } while (!StringUtils.isNullOrEmpty(marker) && depth <= MAX_DEPTH);
+        } while (!StringUtils.isNullOrEmpty(marker) && ++depth <= MAX_DEPTH);
+        // a truncated map would read as parameters missing from the group
+        if (!StringUtils.isNullOrEmpty(marker)) {
+            throw new CfnGeneralServiceException("describeDBParameters: more than " + MAX_DEPTH + " pages for " + model.getDBParameterGroupName());
+        }
         return params;
     }
 
@@ -1,5 +1,6 @@
 package software.amazon.rds.dbparametergroup;
 
+import java.util.Collections;
 import java.util.Optional;
 
 import com.amazonaws.util.StringUtils;
@@ -39,7 +40,7 @@ public class CreateHandler extends BaseHandlerStd {
                         .makeServiceCall((createDBParameterGroupRequest, proxyInvocation) ->
                                 proxyInvocation.injectCredentialsAndInvokeV2(createDBParameterGroupRequest, proxyInvocation.client()::createDBParameterGroup))
                         .handleError((createDBParameterGroupRequest, exception, client, resourceModel, ctx) -> handleException(exception))
-                        .done((paramGroupRequest, paramGroupResponse, proxyInvocation, resourceModel, context) -> applyParameters(proxy, proxyInvocation, resourceModel, context)))
+                        .done((paramGroupRequest, paramGroupResponse, proxyInvocation, resourceModel, context) -> applyParameters(proxy, proxyInvocation, Collections.emptyMap(), resourceModel, context)))
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 }
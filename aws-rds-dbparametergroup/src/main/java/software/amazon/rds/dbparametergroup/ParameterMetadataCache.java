@@ -0,0 +1,52 @@
+package software.amazon.rds.dbparametergroup;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.services.rds.model.Parameter;
+
+// Engine default parameter metadata indexed by parameter name, per parameter group family.
+// The metadata of a family does not change, so a container loads it once and keeps it across invocations.
+// The loader either returns the whole family or throws, so a partial load never makes it into the cache.
+final class ParameterMetadataCache {
+
+    private static final ConcurrentMap<String, Map<String, Parameter>> METADATA = new ConcurrentHashMap<>();
+
+    private ParameterMetadataCache() {
+    }
+
+    static Map<String, Parameter> get(final String family, final Function<String, Collection<Parameter>> loader) {
+        final Map<String, Parameter> cached = METADATA.get(family);
+        if (cached != null) {
+            return cached;
+        }
+        final Map<String, Parameter> metadata = Collections.unmodifiableMap(loader.apply(family).stream()
+                .map(ParameterMetadataCache::metadataOf)
+                .collect(Collectors.toMap(Parameter::parameterName, Function.identity(), (first, second) -> first)));
+        // an empty answer is not worth keeping: the next invocation asks again
+        if (!metadata.isEmpty()) {
+            METADATA.putIfAbsent(family, metadata);
+        }
+        return metadata;
+    }
+
+    static void clear() {
+        METADATA.clear();
+    }
+
+    // The descriptions and the default values take most of the payload and are never used.
+    private static Parameter metadataOf(final Parameter parameter) {
+        return Parameter.builder()
+                .parameterName(parameter.parameterName())
+                .applyType(parameter.applyType())
+                .isModifiable(parameter.isModifiable())
+                .allowedValues(parameter.allowedValues())
+                .dataType(parameter.dataType())
+                .build();
+    }
+}
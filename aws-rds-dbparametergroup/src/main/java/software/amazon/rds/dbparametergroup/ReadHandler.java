@@ -1,5 +1,7 @@
 package software.amazon.rds.dbparametergroup;
 
+import java.util.Map;
+
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.DBParameterGroup;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -29,6 +31,11 @@ public class ReadHandler extends BaseHandlerStd {
                     callbackContext.setDbParameterGroupArn(dBParameterGroup.dbParameterGroupArn());
                     return ProgressEvent.progress(Translator.translateFromDBParameterGroup(dBParameterGroup), callbackContext);
                 })
+                .then(progress -> {
+                    final Map<String, Object> parameters = describeUserParameters(proxyClient, progress.getResourceModel());
+                    progress.getResourceModel().setParameters(parameters.isEmpty() ? null : parameters);
+                    return progress;
+                })
                 .then(progress -> softFailAccessDenied(() ->
                                 proxy.initiate("rds::read-db-parameter-group-tags", proxyClient, request.getDesiredResourceState(), callbackContext)
                                         .translateToServiceRequest(resourceModel -> Translator.listTagsForResourceRequest(callbackContext.getDbParameterGroupArn()))
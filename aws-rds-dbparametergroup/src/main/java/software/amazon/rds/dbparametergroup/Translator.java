@@ -15,6 +15,7 @@ import software.amazon.awssdk.services.rds.model.DBParameterGroup;
 import software.amazon.awssdk.services.rds.model.DeleteDbParameterGroupRequest;
 import software.amazon.awssdk.services.rds.model.DescribeDbParameterGroupsRequest;
 import software.amazon.awssdk.services.rds.model.DescribeDbParametersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeEngineDefaultParametersRequest;
 import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.rds.model.ModifyDbParameterGroupRequest;
 import software.amazon.awssdk.services.rds.model.Parameter;
@@ -23,6 +24,8 @@ import software.amazon.awssdk.services.rds.model.ResetDbParameterGroupRequest;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 
 public class Translator {
+    // the parameters changed from the engine defaults
+    private static final String USER_SOURCE = "user";
 
     static CreateDbParameterGroupRequest createDbParameterGroupRequest(final ResourceModel model, final Map<String, String> tags) {
         return CreateDbParameterGroupRequest.builder()
@@ -45,9 +48,18 @@ public class Translator {
                 .build();
     }
 
-    static DescribeDbParametersRequest describeDbParameterGroupsRequest(final ResourceModel model, final String nextToken, int recordsPerPage) {
+    static DescribeDbParametersRequest describeUserDbParametersRequest(final ResourceModel model, final String nextToken, int recordsPerPage) {
         return DescribeDbParametersRequest.builder()
                 .dbParameterGroupName(model.getDBParameterGroupName())
+                .source(USER_SOURCE)
+                .marker(nextToken)
+                .maxRecords(recordsPerPage)
+                .build();
+    }
+
+    static DescribeEngineDefaultParametersRequest describeEngineDefaultParametersRequest(final String family, final String nextToken, int recordsPerPage) {
+        return DescribeEngineDefaultParametersRequest.builder()
+                .dbParameterGroupFamily(family)
                 .marker(nextToken)
                 .maxRecords(recordsPerPage)
                 .build();
@@ -66,10 +78,10 @@ public class Translator {
                 .build();
     }
 
-    static ResetDbParameterGroupRequest resetDbParameterGroupRequest(final ResourceModel model) {
+    static ResetDbParameterGroupRequest resetDbParameterGroupRequest(final ResourceModel model, final Collection<Parameter> parameters) {
         return ResetDbParameterGroupRequest.builder()
                 .dbParameterGroupName(model.getDBParameterGroupName())
-                .resetAllParameters(true)
+                .parameters(parameters)
                 .build();
     }
 
@@ -85,11 +97,19 @@ public class Translator {
                 .collect(Collectors.toList());
     }
 
-    protected static Set<Parameter> getParametersToModify(final ResourceModel model,
+    protected static Set<Parameter> getParametersToModify(final Map<String, Object> parametersToModify,
                                                           final List<Parameter> parameters) {
         return parameters.stream()
-                .filter(parameter -> model.getParameters().containsKey(parameter.parameterName()))
-                .map(parameter -> modifyParameter(model.getParameters(), parameter))
+                .filter(parameter -> parametersToModify.containsKey(parameter.parameterName()))
+                .map(parameter -> modifyParameter(parametersToModify, parameter))
+                .collect(Collectors.toSet());
+    }
+
+    protected static Set<Parameter> getParametersToReset(final Set<String> parametersToReset,
+                                                         final List<Parameter> parameters) {
+        return parameters.stream()
+                .filter(parameter -> parametersToReset.contains(parameter.parameterName()))
+                .map(parameter -> applyMethod(Parameter.builder().parameterName(parameter.parameterName()), parameter).build())
                 .collect(Collectors.toSet());
     }
 
@@ -104,12 +124,16 @@ public class Translator {
                 .applyType(parameter.applyType())
                 .isModifiable(parameter.isModifiable());
 
+        return applyMethod(param, parameter).build();
+    }
+
+    private static Parameter.Builder applyMethod(final Parameter.Builder param, final Parameter parameter) {
         if (parameter.applyType().equalsIgnoreCase(ParameterType.Static.toString()))  // If the parameter is STATIC, flag for pending reboot
             param.applyMethod(ApplyMethod.PENDING_REBOOT);
         else if (parameter.applyType().equalsIgnoreCase(ParameterType.Dynamic.toString()))   // If the parameter is DYNAMIC, we can apply now
-            param.applyMethod(ApplyMethod.IMMEDIATE).build();
+            param.applyMethod(ApplyMethod.IMMEDIATE);
 
-        return param.build();
+        return param;
     }
 
 
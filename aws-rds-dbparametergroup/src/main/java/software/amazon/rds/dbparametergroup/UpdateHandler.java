@@ -1,5 +1,8 @@
 package software.amazon.rds.dbparametergroup;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import com.google.common.collect.Sets;
@@ -50,18 +53,15 @@ public class UpdateHandler extends BaseHandlerStd {
             final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
+        final Map<String, Object> previousParameters = Optional.ofNullable(request.getPreviousResourceState())
+                .map(ResourceModel::getParameters)
+                .orElse(Collections.emptyMap());
         //Parameters are the same. No need to make reset and modify parameter requests. We need only to update tags
-        final boolean skipUpdatingParameters = model.getParameters().equals(request.getPreviousResourceState().getParameters());
+        final boolean skipUpdatingParameters = previousParameters.equals(Optional.ofNullable(model.getParameters()).orElse(Collections.emptyMap()));
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress -> {
                     if (skipUpdatingParameters) return progress;
-                    return proxy.initiate("rds::update-db-parameter-group", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                            .translateToServiceRequest(Translator::resetDbParameterGroupRequest)
-                            .backoffDelay(CONSTANT)
-                            .makeServiceCall((resetGroupRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(resetGroupRequest, proxyInvocation.client()::resetDBParameterGroup))
-                            .handleError((awsRequest, exception, client, resourceModel, context) -> handleException(exception))
-                            .done((resetGroupRequest, resetGroupResponse, proxyInvocation, resourceModel, context) -> ProgressEvent.progress(resourceModel, context))
-                            .then(p -> applyParameters(proxy, proxyClient, p.getResourceModel(), p.getCallbackContext()));
+                    return applyParameters(proxy, proxyClient, previousParameters, progress.getResourceModel(), progress.getCallbackContext());
                 })
                 .then(progress -> tagResource(request, proxy, proxyClient, progress, model, callbackContext))
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
@@ -1,15 +1,18 @@
 package software.amazon.rds.dbparametergroup;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.security.InvalidParameterException;
 import java.time.Duration;
+import java.util.Collections;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,12 +29,18 @@ import software.amazon.awssdk.services.rds.model.DescribeDbParameterGroupsReques
 import software.amazon.awssdk.services.rds.model.DescribeDbParameterGroupsResponse;
 import software.amazon.awssdk.services.rds.model.DescribeDbParametersRequest;
 import software.amazon.awssdk.services.rds.model.DescribeDbParametersResponse;
+import software.amazon.awssdk.services.rds.model.DescribeEngineDefaultParametersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeEngineDefaultParametersResponse;
+import software.amazon.awssdk.services.rds.model.EngineDefaults;
 import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.rds.model.ModifyDbParameterGroupRequest;
 import software.amazon.awssdk.services.rds.model.ModifyDbParameterGroupResponse;
 import software.amazon.awssdk.services.rds.model.Parameter;
+import software.amazon.awssdk.services.rds.model.RdsException;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -59,6 +68,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         rdsClient = mock(RdsClient.class);
         proxyClient = MOCK_PROXY(proxy, rdsClient);
+        ParameterMetadataCache.clear();
     }
 
     @AfterEach
@@ -78,6 +88,9 @@ public class CreateHandlerTest extends AbstractTestBase {
         final ListTagsForResourceResponse listTagsForResourceResponse = ListTagsForResourceResponse.builder().build();
         when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsForResourceResponse);
 
+        final DescribeDbParametersResponse describeDbParametersResponse = DescribeDbParametersResponse.builder().build();
+        when(proxyClient.client().describeDBParameters(any(DescribeDbParametersRequest.class))).thenReturn(describeDbParametersResponse);
+
         CallbackContext callbackContext = new CallbackContext();
         callbackContext.setParametersApplied(true);
 
@@ -100,19 +113,26 @@ public class CreateHandlerTest extends AbstractTestBase {
         verify(proxyClient.client()).createDBParameterGroup(any(CreateDbParameterGroupRequest.class));
         verify(proxyClient.client()).describeDBParameterGroups(any(DescribeDbParameterGroupsRequest.class));
         verify(proxyClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(proxyClient.client()).describeDBParameters(any(DescribeDbParametersRequest.class));
     }
 
     @Test
-    public void handleRequest_SimpleInProgressFailed() {
+    public void handleRequest_SimpleSuccessParametersPropagated() {
         final CreateHandler handler = new CreateHandler();
-
         final CreateDbParameterGroupResponse createDbParameterGroupResponse = CreateDbParameterGroupResponse.builder().build();
-        when(rdsClient.createDBParameterGroup(any(CreateDbParameterGroupRequest.class))).thenReturn(createDbParameterGroupResponse);
+        when(proxyClient.client().createDBParameterGroup(any(CreateDbParameterGroupRequest.class))).thenReturn(createDbParameterGroupResponse);
 
-        mockDescribeDbParametersResponse("new", "new");
+        mockDescribeEngineDefaultParametersResponse("static", "dynamic");
 
         final ModifyDbParameterGroupResponse modifyDbParameterGroupResponse = ModifyDbParameterGroupResponse.builder().build();
-        when(rdsClient.modifyDBParameterGroup(any(ModifyDbParameterGroupRequest.class))).thenReturn(modifyDbParameterGroupResponse);
+        when(proxyClient.client().modifyDBParameterGroup(any(ModifyDbParameterGroupRequest.class))).thenReturn(modifyDbParameterGroupResponse);
+
+        mockDescribeDbParametersResponse("value", "value");
+
+        final DescribeDbParameterGroupsResponse describeDbParameterGroupsResponse = DescribeDbParameterGroupsResponse.builder().dbParameterGroups(DB_PARAMETER_GROUP_ACTIVE).build();
+        when(proxyClient.client().describeDBParameterGroups(any(DescribeDbParameterGroupsRequest.class))).thenReturn(describeDbParameterGroupsResponse);
+        final ListTagsForResourceResponse listTagsForResourceResponse = ListTagsForResourceResponse.builder().build();
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsForResourceResponse);
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .clientRequestToken(getClientRequestToken())
@@ -122,72 +142,90 @@ public class CreateHandlerTest extends AbstractTestBase {
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
         assertThat(response).isNotNull();
-        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
-        assertThat(response.getCallbackContext()).isNotNull();
-        assertThat(response.getCallbackDelaySeconds()).isEqualTo(300);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
-        verify(rdsClient).createDBParameterGroup(any(CreateDbParameterGroupRequest.class));
-        verify(rdsClient).describeDBParameters(any(DescribeDbParametersRequest.class));
+        verify(proxyClient.client()).createDBParameterGroup(any(CreateDbParameterGroupRequest.class));
+        verify(proxyClient.client()).describeEngineDefaultParameters(any(DescribeEngineDefaultParametersRequest.class));
+        verify(proxyClient.client()).modifyDBParameterGroup(any(ModifyDbParameterGroupRequest.class));
+        verify(proxyClient.client(), times(2)).describeDBParameters(any(DescribeDbParametersRequest.class));
+        verify(proxyClient.client()).describeDBParameterGroups(any(DescribeDbParameterGroupsRequest.class));
+        verify(proxyClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 
     @Test
-    public void handleRequest_SimpleInProgress() {
+    public void handleRequest_SimpleInProgressFailedUnsupportedParams() {
         final CreateHandler handler = new CreateHandler();
+
         final CreateDbParameterGroupResponse createDbParameterGroupResponse = CreateDbParameterGroupResponse.builder().build();
-        when(proxyClient.client().createDBParameterGroup(any(CreateDbParameterGroupRequest.class))).thenReturn(createDbParameterGroupResponse);
+        when(rdsClient.createDBParameterGroup(any(CreateDbParameterGroupRequest.class))).thenReturn(createDbParameterGroupResponse);
 
-        mockDescribeDbParametersResponse("static", "dynamic");
+        final DescribeEngineDefaultParametersResponse describeEngineDefaultParametersResponse = DescribeEngineDefaultParametersResponse.builder()
+                .engineDefaults(EngineDefaults.builder().marker(null).build()).build();
+        when(rdsClient.describeEngineDefaultParameters(any(DescribeEngineDefaultParametersRequest.class))).thenReturn(describeEngineDefaultParametersResponse);
 
-        final ModifyDbParameterGroupResponse modifyDbParameterGroupResponse = ModifyDbParameterGroupResponse.builder().build();
-        when(proxyClient.client().modifyDBParameterGroup(any(ModifyDbParameterGroupRequest.class))).thenReturn(modifyDbParameterGroupResponse);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .clientRequestToken(getClientRequestToken())
+                .desiredResourceState(RESOURCE_MODEL)
+                .desiredResourceTags(translateTagsToMap(TAG_SET))
+                .logicalResourceIdentifier(LOGICAL_RESOURCE_IDENTIFIER).build();
+        try {
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        } catch (CfnInvalidRequestException e) {
+            assertThat(e.getMessage()).isEqualTo("Invalid request provided: Invalid / Unsupported DB Parameter: param1");
+        }
+
+        verify(proxyClient.client()).createDBParameterGroup(any(CreateDbParameterGroupRequest.class));
+        verify(proxyClient.client()).describeEngineDefaultParameters(any(DescribeEngineDefaultParametersRequest.class));
+    }
+
+    @Test
+    public void handleRequest_EngineDefaultsThrottled_FailsWithoutCaching() {
+        final CreateDbParameterGroupResponse createDbParameterGroupResponse = CreateDbParameterGroupResponse.builder().build();
+        when(rdsClient.createDBParameterGroup(any(CreateDbParameterGroupRequest.class))).thenReturn(createDbParameterGroupResponse);
+        when(rdsClient.describeEngineDefaultParameters(any(DescribeEngineDefaultParametersRequest.class)))
+                .thenThrow(RdsException.builder().message("Rate exceeded").build());
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .clientRequestToken(getClientRequestToken())
                 .desiredResourceState(RESOURCE_MODEL)
                 .desiredResourceTags(translateTagsToMap(TAG_SET))
                 .logicalResourceIdentifier(LOGICAL_RESOURCE_IDENTIFIER).build();
-        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
-        assertThat(response).isNotNull();
-        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
-        assertThat(response.getCallbackContext()).isNotNull();
-        assertThat(response.getCallbackDelaySeconds()).isEqualTo(300);
-        assertThat(response.getResourceModels()).isNull();
-        assertThat(response.getMessage()).isNull();
-        assertThat(response.getErrorCode()).isNull();
+        assertThatThrownBy(() -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger))
+                .isInstanceOf(CfnThrottlingException.class);
+        assertThat(ParameterMetadataCache.get(RESOURCE_MODEL.getFamily(), family -> Collections.emptyList())).isEmpty();
 
         verify(proxyClient.client()).createDBParameterGroup(any(CreateDbParameterGroupRequest.class));
-        verify(proxyClient.client()).describeDBParameters(any(DescribeDbParametersRequest.class));
-        verify(proxyClient.client()).modifyDBParameterGroup(any(ModifyDbParameterGroupRequest.class));
+        verify(proxyClient.client()).describeEngineDefaultParameters(any(DescribeEngineDefaultParametersRequest.class));
     }
 
     @Test
-    public void handleRequest_SimpleInProgressFailedUnsupportedParams() {
-        final CreateHandler handler = new CreateHandler();
-
+    public void handleRequest_EngineDefaultsTruncated_FailsWithoutCaching() {
         final CreateDbParameterGroupResponse createDbParameterGroupResponse = CreateDbParameterGroupResponse.builder().build();
         when(rdsClient.createDBParameterGroup(any(CreateDbParameterGroupRequest.class))).thenReturn(createDbParameterGroupResponse);
-
-        final DescribeDbParametersResponse describeDbParametersResponse = DescribeDbParametersResponse.builder()
-                .marker(null).build();
-        when(rdsClient.describeDBParameters(any(DescribeDbParametersRequest.class))).thenReturn(describeDbParametersResponse);
+        // every page points to another one
+        final DescribeEngineDefaultParametersResponse describeEngineDefaultParametersResponse = DescribeEngineDefaultParametersResponse.builder()
+                .engineDefaults(EngineDefaults.builder().marker("marker")
+                        .parameters(Parameter.builder().parameterName("param1").isModifiable(true).applyType("dynamic").build())
+                        .build()).build();
+        when(rdsClient.describeEngineDefaultParameters(any(DescribeEngineDefaultParametersRequest.class))).thenReturn(describeEngineDefaultParametersResponse);
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .clientRequestToken(getClientRequestToken())
                 .desiredResourceState(RESOURCE_MODEL)
                 .desiredResourceTags(translateTagsToMap(TAG_SET))
                 .logicalResourceIdentifier(LOGICAL_RESOURCE_IDENTIFIER).build();
-        try {
-            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
-        } catch (CfnInvalidRequestException e) {
-            assertThat(e.getMessage()).isEqualTo("Invalid request provided: Invalid / Unsupported DB Parameter: param1");
-        }
+
+        assertThatThrownBy(() -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger))
+                .isInstanceOf(CfnGeneralServiceException.class);
+        assertThat(ParameterMetadataCache.get(RESOURCE_MODEL.getFamily(), family -> Collections.emptyList())).isEmpty();
 
         verify(proxyClient.client()).createDBParameterGroup(any(CreateDbParameterGroupRequest.class));
-        verify(proxyClient.client()).describeDBParameters(any(DescribeDbParametersRequest.class));
+        verify(proxyClient.client(), times(BaseHandlerStd.MAX_DEPTH + 1)).describeEngineDefaultParameters(any(DescribeEngineDefaultParametersRequest.class));
     }
 
     @Test
@@ -237,20 +275,29 @@ public class CreateHandlerTest extends AbstractTestBase {
         verify(proxyClient.client()).createDBParameterGroup(any(CreateDbParameterGroupRequest.class));
     }
 
-    private void mockDescribeDbParametersResponse(String firstParamApplyType, String secondParamApplyType) {
-        final DescribeDbParametersResponse describeDbParametersResponse = DescribeDbParametersResponse.builder().marker(null)
-                .parameters(Parameter.builder()
-                                .parameterName("param1")
-                                .parameterValue("system_value")
-                                .isModifiable(true)
-                                .applyType(firstParamApplyType)
-                                .build(),
-                        Parameter.builder()
-                                .parameterName("param2")
-                                .parameterValue("system_value")
-                                .isModifiable(true)
-                                .applyType(secondParamApplyType)
-                                .build()).build();
+    private void mockDescribeDbParametersResponse(String firstParamValue, String secondParamValue) {
+        final DescribeDbParametersResponse describeDbParametersResponse = DescribeDbParametersResponse.builder()
+                .parameters(Parameter.builder().parameterName("param1").parameterValue(firstParamValue).build(),
+                        Parameter.builder().parameterName("param2").parameterValue(secondParamValue).build())
+                .build();
         when(proxyClient.client().describeDBParameters(any(DescribeDbParametersRequest.class))).thenReturn(describeDbParametersResponse);
     }
+
+    private void mockDescribeEngineDefaultParametersResponse(String firstParamApplyType, String secondParamApplyType) {
+        final DescribeEngineDefaultParametersResponse describeEngineDefaultParametersResponse = DescribeEngineDefaultParametersResponse.builder()
+                .engineDefaults(EngineDefaults.builder().marker(null)
+                        .parameters(Parameter.builder()
+                                        .parameterName("param1")
+                                        .parameterValue("system_value")
+                                        .isModifiable(true)
+                                        .applyType(firstParamApplyType)
+                                        .build(),
+                                Parameter.builder()
+                                        .parameterName("param2")
+                                        .parameterValue("system_value")
+                                        .isModifiable(true)
+                                        .applyType(secondParamApplyType)
+                                        .build()).build()).build();
+        when(proxyClient.client().describeEngineDefaultParameters(any(DescribeEngineDefaultParametersRequest.class))).thenReturn(describeEngineDefaultParametersResponse);
+    }
 }
@@ -0,0 +1,74 @@
+package software.amazon.rds.dbparametergroup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.rds.model.Parameter;
+
+public class ParameterMetadataCacheTest {
+
+    private static final Parameter PARAMETER = Parameter.builder()
+            .parameterName("param1")
+            .parameterValue("system_value")
+            .description("description")
+            .applyType("dynamic")
+            .isModifiable(true)
+            .build();
+
+    @BeforeEach
+    public void setup() {
+        ParameterMetadataCache.clear();
+    }
+
+    @Test
+    public void get_LoadsFamilyOnce() {
+        final AtomicInteger loads = new AtomicInteger();
+
+        ParameterMetadataCache.get("testFamily", family -> {
+            loads.incrementAndGet();
+            return Collections.singletonList(PARAMETER);
+        });
+        final Parameter parameter = ParameterMetadataCache.get("testFamily", family -> {
+            loads.incrementAndGet();
+            return Collections.emptyList();
+        }).get("param1");
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(parameter.applyType()).isEqualTo("dynamic");
+        assertThat(parameter.isModifiable()).isTrue();
+        assertThat(parameter.description()).isNull();
+    }
+
+    @Test
+    public void get_DoesNotKeepEmptyMetadata() {
+        final AtomicInteger loads = new AtomicInteger();
+
+        ParameterMetadataCache.get("testFamily", family -> {
+            loads.incrementAndGet();
+            return Collections.emptyList();
+        });
+        ParameterMetadataCache.get("testFamily", family -> {
+            loads.incrementAndGet();
+            return Collections.singletonList(PARAMETER);
+        });
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void get_DoesNotKeepFailedLoad() {
+        assertThatThrownBy(() -> ParameterMetadataCache.get("testFamily", family -> {
+            throw new IllegalStateException("load failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        final Parameter parameter = ParameterMetadataCache.get("testFamily", family -> Collections.singletonList(PARAMETER)).get("param1");
+
+        assertThat(parameter).isNotNull();
+    }
+}
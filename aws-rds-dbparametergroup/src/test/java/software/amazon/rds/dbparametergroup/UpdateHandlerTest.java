@@ -10,22 +10,34 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.AddTagsToResourceRequest;
 import software.amazon.awssdk.services.rds.model.AddTagsToResourceResponse;
+import software.amazon.awssdk.services.rds.model.ApplyMethod;
 import software.amazon.awssdk.services.rds.model.DBParameterGroup;
 import software.amazon.awssdk.services.rds.model.DescribeDbParameterGroupsRequest;
 import software.amazon.awssdk.services.rds.model.DescribeDbParameterGroupsResponse;
+import software.amazon.awssdk.services.rds.model.DescribeDbParametersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbParametersResponse;
+import software.amazon.awssdk.services.rds.model.DescribeEngineDefaultParametersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeEngineDefaultParametersResponse;
+import software.amazon.awssdk.services.rds.model.EngineDefaults;
 import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.rds.model.ModifyDbParameterGroupRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbParameterGroupResponse;
+import software.amazon.awssdk.services.rds.model.Parameter;
 import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceRequest;
 import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceResponse;
 import software.amazon.awssdk.services.rds.model.ResetDbParameterGroupRequest;
@@ -59,6 +71,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         rdsClient = mock(RdsClient.class);
         proxyRdsClient = MOCK_PROXY(proxy, rdsClient);
+        ParameterMetadataCache.clear();
 
         simpleDbParameterGroup = DBParameterGroup.builder()
                 .dbParameterGroupArn("arn").build();
@@ -97,15 +110,14 @@ public class UpdateHandlerTest extends AbstractTestBase {
         CallbackContext callbackContext = new CallbackContext();
         callbackContext.setParametersApplied(true);
 
-        final ResetDbParameterGroupResponse resetDbParameterGroupResponse = ResetDbParameterGroupResponse.builder().build();
-        when(rdsClient.resetDBParameterGroup(any(ResetDbParameterGroupRequest.class))).thenReturn(resetDbParameterGroupResponse);
-
         final DescribeDbParameterGroupsResponse describeDbParameterGroupsResponse = DescribeDbParameterGroupsResponse.builder()
                 .dbParameterGroups(simpleDbParameterGroup).build();
         when(rdsClient.describeDBParameterGroups(any(DescribeDbParameterGroupsRequest.class))).thenReturn(describeDbParameterGroupsResponse);
 
         final ListTagsForResourceResponse listTagsForResourceResponse = ListTagsForResourceResponse.builder().build();
         when(rdsClient.listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsForResourceResponse);
+        final DescribeDbParametersResponse describeDbParametersResponse = DescribeDbParametersResponse.builder().build();
+        when(rdsClient.describeDBParameters(any(DescribeDbParametersRequest.class))).thenReturn(describeDbParametersResponse);
 
         final RemoveTagsFromResourceResponse removeTagsFromResourceResponse = RemoveTagsFromResourceResponse.builder().build();
         when(rdsClient.removeTagsFromResource(any(RemoveTagsFromResourceRequest.class))).thenReturn(removeTagsFromResourceResponse);
@@ -122,9 +134,9 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
-        verify(proxyRdsClient.client()).resetDBParameterGroup(any(ResetDbParameterGroupRequest.class));
         verify(proxyRdsClient.client(), times(2)).describeDBParameterGroups(any(DescribeDbParameterGroupsRequest.class));
         verify(proxyRdsClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(proxyRdsClient.client()).describeDBParameters(any(DescribeDbParametersRequest.class));
         verify(proxyRdsClient.client()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
         verify(proxyRdsClient.client()).addTagsToResource(any(AddTagsToResourceRequest.class));
     }
@@ -142,6 +154,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         final ListTagsForResourceResponse listTagsForResourceResponse = ListTagsForResourceResponse.builder().build();
         when(rdsClient.listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsForResourceResponse);
+        final DescribeDbParametersResponse describeDbParametersResponse = DescribeDbParametersResponse.builder().build();
+        when(rdsClient.describeDBParameters(any(DescribeDbParametersRequest.class))).thenReturn(describeDbParametersResponse);
         final RemoveTagsFromResourceResponse removeTagsFromResourceResponse = RemoveTagsFromResourceResponse.builder().build();
         when(rdsClient.removeTagsFromResource(any(RemoveTagsFromResourceRequest.class))).thenReturn(removeTagsFromResourceResponse);
         final AddTagsToResourceResponse addTagsToResourceResponse = AddTagsToResourceResponse.builder().build();
@@ -158,7 +172,81 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         verify(proxyRdsClient.client(), times(2)).describeDBParameterGroups(any(DescribeDbParameterGroupsRequest.class));
         verify(proxyRdsClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(proxyRdsClient.client()).describeDBParameters(any(DescribeDbParametersRequest.class));
         verify(proxyRdsClient.client()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
         verify(proxyRdsClient.client()).addTagsToResource(any(AddTagsToResourceRequest.class));
     }
+
+    @Test
+    public void handleRequest_ChangedParams_ShouldResetRemovedAndModifyChanged() {
+        final UpdateHandler handler = new UpdateHandler();
+
+        final Map<String, Object> previousParams = new HashMap<>();
+        previousParams.put("param1", "value");
+        previousParams.put("param2", "old");
+        previousParams.put("param3", "value");
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .clientRequestToken(getClientRequestToken())
+                .desiredResourceState(RESOURCE_MODEL)
+                .previousResourceState(ResourceModel.builder().parameters(previousParams).build())
+                .desiredResourceTags(translateTagsToMap(TAG_SET))
+                .logicalResourceIdentifier(LOGICAL_RESOURCE_IDENTIFIER)
+                .build();
+
+        final DescribeEngineDefaultParametersResponse describeEngineDefaultParametersResponse = DescribeEngineDefaultParametersResponse.builder()
+                .engineDefaults(EngineDefaults.builder().parameters(
+                        Parameter.builder().parameterName("param1").isModifiable(true).applyType("dynamic").build(),
+                        Parameter.builder().parameterName("param2").isModifiable(true).applyType("dynamic").build(),
+                        Parameter.builder().parameterName("param3").isModifiable(true).applyType("static").build())
+                        .build())
+                .build();
+        when(rdsClient.describeEngineDefaultParameters(any(DescribeEngineDefaultParametersRequest.class))).thenReturn(describeEngineDefaultParametersResponse);
+
+        final ResetDbParameterGroupResponse resetDbParameterGroupResponse = ResetDbParameterGroupResponse.builder().build();
+        when(rdsClient.resetDBParameterGroup(any(ResetDbParameterGroupRequest.class))).thenReturn(resetDbParameterGroupResponse);
+
+        final ModifyDbParameterGroupResponse modifyDbParameterGroupResponse = ModifyDbParameterGroupResponse.builder().build();
+        when(rdsClient.modifyDBParameterGroup(any(ModifyDbParameterGroupRequest.class))).thenReturn(modifyDbParameterGroupResponse);
+
+        final DescribeDbParametersResponse describeDbParametersResponse = DescribeDbParametersResponse.builder()
+                .parameters(Parameter.builder().parameterName("param1").parameterValue("value").build(),
+                        Parameter.builder().parameterName("param2").parameterValue("value").build())
+                .build();
+        when(rdsClient.describeDBParameters(any(DescribeDbParametersRequest.class))).thenReturn(describeDbParametersResponse);
+
+        final DescribeDbParameterGroupsResponse describeDbParameterGroupsResponse = DescribeDbParameterGroupsResponse.builder()
+                .dbParameterGroups(simpleDbParameterGroup).build();
+        when(rdsClient.describeDBParameterGroups(any(DescribeDbParameterGroupsRequest.class))).thenReturn(describeDbParameterGroupsResponse);
+        final ListTagsForResourceResponse listTagsForResourceResponse = ListTagsForResourceResponse.builder().build();
+        when(rdsClient.listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsForResourceResponse);
+        final RemoveTagsFromResourceResponse removeTagsFromResourceResponse = RemoveTagsFromResourceResponse.builder().build();
+        when(rdsClient.removeTagsFromResource(any(RemoveTagsFromResourceRequest.class))).thenReturn(removeTagsFromResourceResponse);
+        final AddTagsToResourceResponse addTagsToResourceResponse = AddTagsToResourceResponse.builder().build();
+        when(rdsClient.addTagsToResource(any(AddTagsToResourceRequest.class))).thenReturn(addTagsToResourceResponse);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+
+        final ArgumentCaptor<ResetDbParameterGroupRequest> resetCaptor = ArgumentCaptor.forClass(ResetDbParameterGroupRequest.class);
+        verify(rdsClient).resetDBParameterGroup(resetCaptor.capture());
+        assertThat(resetCaptor.getValue().resetAllParameters()).isNull();
+        assertThat(resetCaptor.getValue().parameters()).containsExactly(
+                Parameter.builder().parameterName("param3").applyMethod(ApplyMethod.PENDING_REBOOT).build());
+
+        final ArgumentCaptor<ModifyDbParameterGroupRequest> modifyCaptor = ArgumentCaptor.forClass(ModifyDbParameterGroupRequest.class);
+        verify(rdsClient).modifyDBParameterGroup(modifyCaptor.capture());
+        assertThat(modifyCaptor.getValue().parameters()).extracting(Parameter::parameterName).containsExactly("param2");
+
+        verify(rdsClient).describeEngineDefaultParameters(any(DescribeEngineDefaultParametersRequest.class));
+        // once to verify the propagation, once more to read the resource back
+        verify(rdsClient, times(2)).describeDBParameters(any(DescribeDbParametersRequest.class));
+        verify(rdsClient, times(2)).describeDBParameterGroups(any(DescribeDbParameterGroupsRequest.class));
+        verify(rdsClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(rdsClient).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
+        verify(rdsClient).addTagsToResource(any(AddTagsToResourceRequest.class));
+    }
 }
@@ -34,7 +34,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         proxy,
         request,
         callbackContext != null ? callbackContext : new CallbackContext(),
-        proxy.newProxy(ClientBuilder::getClient),
+        proxy.newProxy(() -> ClientBuilder.getClient(request.getRegion())),
         logger
     );
   }
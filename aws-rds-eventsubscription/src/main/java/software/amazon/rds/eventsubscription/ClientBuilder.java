@@ -1,12 +1,56 @@
 package software.amazon.rds.eventsubscription;
 
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.RdsClientBuilder;
 import software.amazon.cloudformation.LambdaWrapper;
 
 public class ClientBuilder {
-  public static RdsClient getClient() {
-      return RdsClient.builder()
-          .httpClient(LambdaWrapper.HTTP_CLIENT)
-          .build();
+
+  private final static int MAX_RETRIES = 5;
+  private final static Duration API_CALL_ATTEMPT_TIMEOUT = Duration.ofSeconds(30);
+  private final static Duration API_CALL_TIMEOUT = Duration.ofMinutes(2);
+
+  // Used for the requests that come without a region: the client falls back to the default region provider chain.
+  private final static String DEFAULT_REGION_KEY = "";
+
+  private ClientBuilder() {
+  }
+
+  private static final RetryPolicy RETRY_POLICY = RetryPolicy.builder()
+      .numRetries(MAX_RETRIES)
+      .retryCondition(RetryCondition.defaultRetryCondition())
+      .build();
+
+  private static final ClientOverrideConfiguration OVERRIDE_CONFIGURATION = ClientOverrideConfiguration.builder()
+      .apiCallAttemptTimeout(API_CALL_ATTEMPT_TIMEOUT)
+      .apiCallTimeout(API_CALL_TIMEOUT)
+      .retryPolicy(RETRY_POLICY)
+      .build();
+
+  // ProxyClient.client() asks for a client on every API call. SDK clients are thread-safe and credentials
+  // are injected per request, so a container keeps a single client per region, all of them sharing
+  // the LambdaWrapper connection pool.
+  private static final ConcurrentMap<String, RdsClient> CLIENTS = new ConcurrentHashMap<>();
+
+  public static RdsClient getClient(final String region) {
+    return CLIENTS.computeIfAbsent(region == null ? DEFAULT_REGION_KEY : region, ClientBuilder::buildClient);
+  }
+
+  private static RdsClient buildClient(final String region) {
+    final RdsClientBuilder builder = RdsClient.builder()
+        .httpClient(LambdaWrapper.HTTP_CLIENT)
+        .overrideConfiguration(OVERRIDE_CONFIGURATION);
+    if (!DEFAULT_REGION_KEY.equals(region)) {
+      builder.region(Region.of(region));
+    }
+    return builder.build();
   }
 }